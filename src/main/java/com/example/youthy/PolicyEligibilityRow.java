@@ -0,0 +1,27 @@
+package com.example.youthy;
+
+import java.time.LocalDate;
+
+/**
+ * 자격 조건 색인용 정책 프로젝션 (자격 요건 컬럼 + 목록 표시 컬럼)
+ * @param minAge 지원 연령 최소 (null 또는 0 이면 제한 없음)
+ * @param maxAge 지원 연령 최대 (null 또는 0 이면 제한 없음)
+ * @param educationRequirement 학력 요건 코드 목록 (쉼표 구분)
+ * @param employmentStatus 취업상태 요건 코드 목록 (쉼표 구분)
+ * @param specializedField 특화 요건 코드 목록 (쉼표 구분)
+ */
+public record PolicyEligibilityRow(String policyNo, String policyName, String policyField, String policySummary,
+                                   LocalDate applicationEndDate, boolean alwaysOpen, Integer minAge, Integer maxAge,
+                                   String educationRequirement, String employmentStatus, String specializedField) {
+
+    /**
+     * JPQL 생성자 표현식에서 쓰는 select 절 (별칭 p 기준)
+     */
+    public static final String SELECT = "select new com.example.youthy.PolicyEligibilityRow(p.policyNo, p.policyName, p.policyField, "
+            + "p.policySummary, p.applicationEndDate, p.alwaysOpen, p.minAge, p.maxAge, "
+            + "p.educationRequirement, p.employmentStatus, p.specializedField) ";
+
+    public PolicyListRow toListRow() {
+        return new PolicyListRow(policyNo, policyName, policyField, policySummary, applicationEndDate, alwaysOpen);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.youthy;
+
+import java.time.LocalDate;
+
+/**
+ * 목록/검색 화면용 정책 프로젝션
+ * YouthPolicy 의 TEXT 컬럼(지원내용, 신청절차, 제출서류 등)과 거주지역을 읽지 않고, 목록에 필요한 컬럼만 생성자 표현식으로 바로 담습니다.
+ * 전체 엔티티는 상세 조회에서만 로딩합니다.
+ * @param policyNo 정책번호
+ * @param policyName 정책명
+ * @param policyField 정책분야
+ * @param policySummary 정책설명
+ * @param applicationEndDate 신청 마감일 (상시/형식 오류면 null)
+ * @param alwaysOpen 상시 모집 여부
+ */
+public record PolicyListRow(String policyNo, String policyName, String policyField, String policySummary,
+                            LocalDate applicationEndDate, boolean alwaysOpen) {
+
+    /**
+     * JPQL 생성자 표현식에서 쓰는 select 절 (별칭 p 기준)
+     */
+    public static final String SELECT = "select new com.example.youthy.PolicyListRow(p.policyNo, p.policyName, p.policyField, "
+            + "p.policySummary, p.applicationEndDate, p.alwaysOpen) ";
+}
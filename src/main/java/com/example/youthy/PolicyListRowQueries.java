@@ -0,0 +1,21 @@
+package com.example.youthy;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification 조건으로 목록 프로젝션(PolicyListRow)을 조회하는 YouthPolicyRepository 확장 조각입니다.
+ * 조건이 요청마다 달라지는 커서 페이지네이션처럼 @Query 로 고정하기 어려운 목록 조회에 사용합니다.
+ */
+public interface PolicyListRowQueries {
+
+    /**
+     * @param spec 조회 조건
+     * @param sort 정렬
+     * @param limit 최대 건수
+     * @return 목록 프로젝션 (엔티티를 로딩하지 않음)
+     */
+    List<PolicyListRow> findListRows(Specification<YouthPolicy> spec, Sort sort, int limit);
+}
@@ -0,0 +1,40 @@
+package com.example.youthy;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * PolicyListRowQueries 구현: Criteria API 의 construct 로 필요한 컬럼만 select 합니다.
+ */
+class PolicyListRowQueriesImpl implements PolicyListRowQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PolicyListRow> findListRows(Specification<YouthPolicy> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PolicyListRow> query = cb.createQuery(PolicyListRow.class);
+        Root<YouthPolicy> p = query.from(YouthPolicy.class);
+        query.select(cb.construct(PolicyListRow.class,
+                p.get("policyNo"), p.get("policyName"), p.get("policyField"), p.get("policySummary"),
+                p.get("applicationEndDate"), p.get("alwaysOpen")));
+        Predicate predicate = spec.toPredicate(p, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, p, cb));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
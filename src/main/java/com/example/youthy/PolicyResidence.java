@@ -6,12 +6,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "policy_residence",
+        indexes = @Index(name = "idx_residence_zip_policy", columnList = "zip_code, policy_no")) // 지역별 정책 조회 (정책번호까지 인덱스로 해결)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PolicyResidence {
 
+    // IDENTITY 전략은 Hibernate 의 INSERT 배치를 꺼 버리므로, 시퀀스에서 100개씩 미리 할당받아 사용합니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "policy_residence_seq_gen")
+    @SequenceGenerator(name = "policy_residence_seq_gen", sequenceName = "policy_residence_seq", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -19,7 +23,7 @@ public class PolicyResidence {
     private YouthPolicy youthPolicy;
 
     @Column(name = "zip_code", length = 10)
-    private String zipCode;
+    private String zipCode; // 시군구 코드, 시도 전체("11000") 또는 전국("00000") (util.RegionCodes 참고)
 
     public PolicyResidence(YouthPolicy youthPolicy, String zipCode) {
         this.youthPolicy = youthPolicy;
@@ -0,0 +1,21 @@
+package com.example.youthy;
+
+import java.time.LocalDate;
+
+/**
+ * 검색 색인용 정책 프로젝션 (검색 대상 텍스트 + 목록 표시 컬럼 + 내용 지문)
+ * @param contentHash 내용 지문 (바뀐 정책만 다시 색인하는 데 사용)
+ */
+public record PolicySearchRow(String policyNo, String policyName, String policyField, String policySummary,
+                              String supportContent, LocalDate applicationEndDate, boolean alwaysOpen, String contentHash) {
+
+    /**
+     * JPQL 생성자 표현식에서 쓰는 select 절 (별칭 p 기준)
+     */
+    public static final String SELECT = "select new com.example.youthy.PolicySearchRow(p.policyNo, p.policyName, p.policyField, "
+            + "p.policySummary, p.supportContent, p.applicationEndDate, p.alwaysOpen, p.contentHash) ";
+
+    public PolicyListRow toListRow() {
+        return new PolicyListRow(policyNo, policyName, policyField, policySummary, applicationEndDate, alwaysOpen);
+    }
+}
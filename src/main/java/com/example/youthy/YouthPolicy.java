@@ -5,14 +5,25 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 청년 정책 정보를 저장하는 데이터베이스 테이블과 매핑되는 JPA 엔티티 클래스
  */
 @Entity
+@Table(name = "youth_policy",
+        indexes = {
+                // 마감일 조회 + 커서 페이지네이션(마감일순)용: (마감일, 정책번호)
+                @Index(name = "idx_policy_end_no", columnList = "application_end_date, policy_no"),
+                @Index(name = "idx_policy_open_end", columnList = "always_open, application_end_date"),
+                // 커서 페이지네이션(이름순)용
+                @Index(name = "idx_policy_name_no", columnList = "policy_name, policy_no")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class YouthPolicy {
@@ -39,6 +50,15 @@ public class YouthPolicy {
     @Column(name = "application_period", length = 500)
     private String applicationPeriod; // 사업 신청 기간 (aplyYmd)
 
+    @Column(name = "application_start_date")
+    private LocalDate applicationStartDate; // 신청 시작일 (applicationPeriod 를 수집 시 한 번 해석한 값)
+
+    @Column(name = "application_end_date")
+    private LocalDate applicationEndDate; // 신청 마감일 (여러 기간이면 가장 늦은 마감일, 상시/형식 오류면 null)
+
+    @Column(name = "always_open", nullable = false)
+    private boolean alwaysOpen; // 상시 모집 여부
+
     @Column(name = "support_scale")
     private String supportScale; // 지원 규모(명) (sprtSclCnt)
 
@@ -48,6 +68,9 @@ public class YouthPolicy {
     @Column(name = "max_age")
     private Integer maxAge; // 지원 연령 (최대) (sprtTrgtMaxAge)
 
+    // 지연 로딩이지만, 여러 정책의 residences 를 건드리면 100개 정책 분량씩 IN 쿼리 한 번으로 모아서 읽습니다. (N+1 방지)
+    // 한 번에 필요한 경로는 fetch join/EntityGraph 를 씁니다. (YouthPolicyRepository 참고)
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "youthPolicy", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<PolicyResidence> residences = new HashSet<>();
 
@@ -88,8 +111,11 @@ public class YouthPolicy {
     @Column(name = "view_count")
     private int viewCount = 0; // 조회수 (Youthy 서비스 자체 관리)
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 외부 API 원본 필드의 SHA-256 지문 (변경 감지용)
+
     @Builder
-    public YouthPolicy(String policyNo, String policyName, String policySummary, String policyField, String supportContent, String operationPeriod, String applicationPeriod, String supportScale, Integer minAge, Integer maxAge, String incomeCondition, String educationRequirement, String majorRequirement, String employmentStatus, String specializedField, String additionalInfo, String participationRestriction, String applicationProcess, String evaluationAndAnnouncement, String applicationSite, String requiredDocuments) {
+    public YouthPolicy(String policyNo, String policyName, String policySummary, String policyField, String supportContent, String operationPeriod, String applicationPeriod, String supportScale, Integer minAge, Integer maxAge, String incomeCondition, String educationRequirement, String majorRequirement, String employmentStatus, String specializedField, String additionalInfo, String participationRestriction, String applicationProcess, String evaluationAndAnnouncement, String applicationSite, String requiredDocuments, String contentHash, LocalDate applicationStartDate, LocalDate applicationEndDate, boolean alwaysOpen) {
         this.policyNo = policyNo;
         this.policyName = policyName;
         this.policySummary = policySummary;
@@ -111,10 +137,58 @@ public class YouthPolicy {
         this.evaluationAndAnnouncement = evaluationAndAnnouncement;
         this.applicationSite = applicationSite;
         this.requiredDocuments = requiredDocuments;
+        this.contentHash = contentHash;
+        this.applicationStartDate = applicationStartDate;
+        this.applicationEndDate = applicationEndDate;
+        this.alwaysOpen = alwaysOpen;
     }
     //== 연관관계 편의 메서드 ==//
     public void addResidence(String zipCode) {
         PolicyResidence residence = new PolicyResidence(this, zipCode);
         this.residences.add(residence);
     }
+
+    //== 동기화 편의 메서드 ==//
+    /**
+     * 외부 API 데이터로 새로 만든 엔티티의 내용으로 이 엔티티를 갱신합니다.
+     * 조회수(viewCount)는 서비스 자체 관리 값이므로 덮어쓰지 않고, 거주지역은 달라진 우편번호만 추가/삭제합니다.
+     * @param source toEntity()로 만든 최신 정책 엔티티
+     */
+    public void updateFrom(YouthPolicy source) {
+        this.policyName = source.policyName;
+        this.policySummary = source.policySummary;
+        this.policyField = source.policyField;
+        this.supportContent = source.supportContent;
+        this.operationPeriod = source.operationPeriod;
+        this.applicationPeriod = source.applicationPeriod;
+        this.applicationStartDate = source.applicationStartDate;
+        this.applicationEndDate = source.applicationEndDate;
+        this.alwaysOpen = source.alwaysOpen;
+        this.supportScale = source.supportScale;
+        this.minAge = source.minAge;
+        this.maxAge = source.maxAge;
+        this.incomeCondition = source.incomeCondition;
+        this.educationRequirement = source.educationRequirement;
+        this.majorRequirement = source.majorRequirement;
+        this.employmentStatus = source.employmentStatus;
+        this.specializedField = source.specializedField;
+        this.additionalInfo = source.additionalInfo;
+        this.participationRestriction = source.participationRestriction;
+        this.applicationProcess = source.applicationProcess;
+        this.evaluationAndAnnouncement = source.evaluationAndAnnouncement;
+        this.applicationSite = source.applicationSite;
+        this.requiredDocuments = source.requiredDocuments;
+        this.contentHash = source.contentHash;
+
+        Set<String> zipCodes = source.residences.stream()
+                .map(PolicyResidence::getZipCode)
+                .collect(Collectors.toSet());
+        this.residences.removeIf(residence -> !zipCodes.contains(residence.getZipCode()));
+        Set<String> currentZipCodes = this.residences.stream()
+                .map(PolicyResidence::getZipCode)
+                .collect(Collectors.toSet());
+        zipCodes.stream()
+                .filter(zipCode -> !currentZipCodes.contains(zipCode))
+                .forEach(this::addResidence);
+    }
 }
@@ -2,18 +2,26 @@ package com.example.youthy;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * YouthPolicy 엔티티에 대한 데이터 접근을 처리하는 JpaRepository 인터페이스입니다.
  * 복잡한 동적 검색 쿼리를 위해 JpaSpecificationExecutor를 상속받도록 확장되었습니다.
+ * 목록 화면은 엔티티 대신 PolicyListRow 프로젝션을 조회하고(PolicyListRowQueries 포함), 전체 엔티티는 상세 조회에서만 읽습니다.
  */
 @Repository
-public interface YouthPolicyRepository extends JpaRepository<YouthPolicy, String>, JpaSpecificationExecutor<YouthPolicy> {
+public interface YouthPolicyRepository extends JpaRepository<YouthPolicy, String>, JpaSpecificationExecutor<YouthPolicy>, PolicyListRowQueries {
 
     /**
      * 정책 이름(policyName)에 특정 키워드가 포함된 정책 목록을 페이징하여 조회합니다.
@@ -44,5 +52,177 @@ public interface YouthPolicyRepository extends JpaRepository<YouthPolicy, String
      */
     Page<YouthPolicy> findByPolicyField(String policyField, Pageable pageable);
 
-}
+    /**
+     * 정책 하나를 거주지역까지 한 번의 쿼리로 조회합니다. (상세 조회용)
+     */
+    @EntityGraph(attributePaths = "residences")
+    Optional<YouthPolicy> findWithResidencesByPolicyNo(String policyNo);
+
+    // ===== 목록 조회용 프로젝션 (PolicyListRow: TEXT 컬럼/거주지역을 읽지 않음) =====
+
+    /**
+     * 전체 정책 목록을 목록 프로젝션으로 조회합니다.
+     */
+    @Query(value = PolicyListRow.SELECT + "from YouthPolicy p",
+            countQuery = "select count(p) from YouthPolicy p")
+    Page<PolicyListRow> findAllListRows(Pageable pageable);
+
+    /**
+     * 정책 분야별 목록을 목록 프로젝션으로 조회합니다.
+     * @param policyField 정책 분야 (예: "일자리", "복지문화")
+     */
+    @Query(value = PolicyListRow.SELECT + "from YouthPolicy p where p.policyField = :policyField",
+            countQuery = "select count(p) from YouthPolicy p where p.policyField = :policyField")
+    Page<PolicyListRow> findListRowsByPolicyField(@Param("policyField") String policyField, Pageable pageable);
+
+    /**
+     * 아직 마감되지 않은(상시 포함) 정책 목록을 조회합니다. 마감일 인덱스를 사용합니다.
+     * 마감일을 해석하지 못한 정책(마감일 null)은 수집 때와 같이 유효한 것으로 봅니다.
+     * @param today 기준일
+     */
+    @Query(value = PolicyListRow.SELECT + "from YouthPolicy p "
+            + "where p.alwaysOpen = true or p.applicationEndDate is null or p.applicationEndDate >= :today",
+            countQuery = "select count(p) from YouthPolicy p "
+                    + "where p.alwaysOpen = true or p.applicationEndDate is null or p.applicationEndDate >= :today")
+    Page<PolicyListRow> findOpenListRows(@Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * 특정 정책 분야에서 아직 마감되지 않은 정책 목록을 조회합니다.
+     */
+    @Query(value = PolicyListRow.SELECT + "from YouthPolicy p where p.policyField = :policyField "
+            + "and (p.alwaysOpen = true or p.applicationEndDate is null or p.applicationEndDate >= :today)",
+            countQuery = "select count(p) from YouthPolicy p where p.policyField = :policyField "
+                    + "and (p.alwaysOpen = true or p.applicationEndDate is null or p.applicationEndDate >= :today)")
+    Page<PolicyListRow> findOpenListRowsByPolicyField(@Param("policyField") String policyField, @Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * 아직 마감되지 않은 정책 전체를 목록 프로젝션으로 조회합니다. (인기/마감 임박 피드 색인용)
+     */
+    @Query(PolicyListRow.SELECT + "from YouthPolicy p "
+            + "where p.alwaysOpen = true or p.applicationEndDate is null or p.applicationEndDate >= :today")
+    List<PolicyListRow> findAllOpenListRows(@Param("today") LocalDate today);
+
+    /**
+     * 마감일이 기간 안에 있는 정책을 마감일이 가까운 순으로 조회합니다. (마감 임박 목록)
+     * @param from 시작일 (보통 오늘)
+     * @param to 종료일
+     */
+    @Query(value = PolicyListRow.SELECT + "from YouthPolicy p where p.applicationEndDate between :from and :to "
+            + "order by p.applicationEndDate asc, p.policyNo asc",
+            countQuery = "select count(p) from YouthPolicy p where p.applicationEndDate between :from and :to")
+    Page<PolicyListRow> findClosingListRows(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    /**
+     * 거주지역 코드가 주어진 코드들 중 하나인 정책 목록을 조회합니다. (시군구 + 상위 시도 + 전국, 거주지역 인덱스 한 번 조회)
+     * @param scopes RegionCodes.scopesFor(지역코드) 결과
+     */
+    @Query(value = PolicyListRow.SELECT + "from YouthPolicy p where p.policyNo in "
+            + "(select r.youthPolicy.policyNo from PolicyResidence r where r.zipCode in :scopes)",
+            countQuery = "select count(p) from YouthPolicy p where p.policyNo in "
+                    + "(select r.youthPolicy.policyNo from PolicyResidence r where r.zipCode in :scopes)")
+    Page<PolicyListRow> findListRowsByRegionScopes(@Param("scopes") Collection<String> scopes, Pageable pageable);
+
+    /**
+     * 한 시도 안 어디에서든 받을 수 있는 정책 목록을 조회합니다. (시도 코드 범위 + 전국, 거주지역 인덱스 범위 조회)
+     * @param from 시도 전체 코드 (예: "11000")
+     * @param to 시도 범위 끝 (예: "11999")
+     * @param nationwide 전국 코드 ("00000")
+     */
+    @Query(value = PolicyListRow.SELECT + "from YouthPolicy p where p.policyNo in "
+            + "(select r.youthPolicy.policyNo from PolicyResidence r where r.zipCode = :nationwide or r.zipCode between :from and :to)",
+            countQuery = "select count(p) from YouthPolicy p where p.policyNo in "
+                    + "(select r.youthPolicy.policyNo from PolicyResidence r where r.zipCode = :nationwide or r.zipCode between :from and :to)")
+    Page<PolicyListRow> findListRowsByRegionRange(@Param("from") String from, @Param("to") String to,
+                                                  @Param("nationwide") String nationwide, Pageable pageable);
+
+    /**
+     * 증분 동기화용 프로젝션: 정책번호와 내용 지문(contentHash)만 담습니다.
+     */
+    interface ContentHashView {
+        String getPolicyNo();
+        String getContentHash();
+    }
+
+    /**
+     * 주어진 정책번호들의 내용 지문을 한 번의 쿼리로 조회합니다. (엔티티 전체를 로딩하지 않음)
+     * @param policyNos 조회할 정책번호 목록 (한 페이지 분량)
+     * @return 정책번호 + 내용 지문 목록
+     */
+    @Query("select p.policyNo as policyNo, p.contentHash as contentHash from YouthPolicy p where p.policyNo in :policyNos")
+    List<ContentHashView> findContentHashesByPolicyNoIn(@Param("policyNos") Collection<String> policyNos);
 
+    /**
+     * 저장된 모든 정책의 내용 지문을 조회합니다. (검색 색인에서 바뀐 정책만 찾기 위해 사용)
+     */
+    @Query("select p.policyNo as policyNo, p.contentHash as contentHash from YouthPolicy p")
+    List<ContentHashView> findAllContentHashes();
+
+    /**
+     * 주어진 정책들의 검색 색인용 프로젝션을 조회합니다. (한 청크 분량)
+     */
+    @Query(PolicySearchRow.SELECT + "from YouthPolicy p where p.policyNo in :policyNos")
+    List<PolicySearchRow> findSearchRowsByPolicyNoIn(@Param("policyNos") Collection<String> policyNos);
+
+    /**
+     * 자격 조건 색인용으로 모든 정책의 자격 요건 컬럼을 조회합니다. (TEXT 컬럼 제외)
+     */
+    @Query(PolicyEligibilityRow.SELECT + "from YouthPolicy p")
+    List<PolicyEligibilityRow> findAllEligibilityRows();
+
+    /**
+     * 거주지역 프로젝션: 정책번호와 우편번호만 담습니다.
+     */
+    interface ResidenceView {
+        String getPolicyNo();
+        String getZipCode();
+    }
+
+    /**
+     * 모든 정책의 거주지역(우편번호)을 조회합니다. (정책 테이블과 조인하지 않음)
+     */
+    @Query("select r.youthPolicy.policyNo as policyNo, r.zipCode as zipCode from PolicyResidence r")
+    List<ResidenceView> findAllResidences();
+
+    /**
+     * 조회수 프로젝션: 정책번호와 DB에 반영된 조회수만 담습니다.
+     */
+    interface ViewCountView {
+        String getPolicyNo();
+        int getViewCount();
+    }
+
+    /**
+     * 모든 정책의 조회수를 조회합니다. (조회수 카운터의 기준값)
+     */
+    @Query("select p.policyNo as policyNo, p.viewCount as viewCount from YouthPolicy p")
+    List<ViewCountView> findAllViewCounts();
+
+    /**
+     * 저장된 모든 정책번호를 조회합니다. (외부 API에서 사라진 정책을 찾기 위해 사용)
+     */
+    @Query("select p.policyNo from YouthPolicy p")
+    List<String> findAllPolicyNos();
+
+    /**
+     * 주어진 정책들을 거주지역(residences)까지 한 번의 쿼리로 조회합니다. (대량 갱신 시 N+1 방지)
+     * @param policyNos 조회할 정책번호 목록 (한 청크 분량)
+     * @return 거주지역이 초기화된 정책 엔티티 목록
+     */
+    @Query("select distinct p from YouthPolicy p left join fetch p.residences where p.policyNo in :policyNos")
+    List<YouthPolicy> findAllWithResidencesByPolicyNoIn(@Param("policyNos") Collection<String> policyNos);
+
+    /**
+     * 주어진 정책들의 거주지역(PolicyResidence) 행을 한 번에 삭제합니다.
+     * 정책 행을 삭제하기 전에 먼저 호출해야 FK 제약에 걸리지 않습니다.
+     */
+    @Modifying
+    @Query("delete from PolicyResidence r where r.youthPolicy.policyNo in :policyNos")
+    int deleteResidencesByPolicyNoIn(@Param("policyNos") Collection<String> policyNos);
+
+    /**
+     * 주어진 정책들을 한 번에 삭제합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from YouthPolicy p where p.policyNo in :policyNos")
+    int deleteByPolicyNoIn(@Param("policyNos") Collection<String> policyNos);
+}
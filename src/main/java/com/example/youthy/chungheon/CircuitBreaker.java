@@ -0,0 +1,70 @@
+package com.example.youthy.chungheon;
+
+/**
+ * 연속 실패 횟수 기반의 단순한 서킷 브레이커입니다.
+ * - CLOSED: 정상 호출. 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN: openMillis 동안 호출을 바로 거절
+ * - HALF_OPEN: OPEN 시간이 지나면 시험 호출 1건만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * 지금 호출을 보내도 되는지 확인합니다. HALF_OPEN 상태에서는 한 번에 한 건만 허용합니다.
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    /**
+     * 외부 서버가 정상적으로 응답했음을 기록합니다. (4xx 처럼 서버가 살아 있는 응답 포함)
+     */
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * 일시적 실패(타임아웃, 5xx 등)를 기록합니다.
+     */
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
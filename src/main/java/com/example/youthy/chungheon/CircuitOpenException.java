@@ -0,0 +1,12 @@
+package com.example.youthy.chungheon;
+
+/**
+ * 서킷 브레이커가 열려 있어 외부 API를 호출하지 않고 바로 실패시켰음을 나타내는 예외입니다.
+ * 동기화는 이 예외를 받으면 남은 페이지를 더 요청하지 않고 중단합니다.
+ */
+public class CircuitOpenException extends ExternalApiException {
+
+    public CircuitOpenException(String operation) {
+        super("Circuit breaker is open. Skipped " + operation, null, true);
+    }
+}
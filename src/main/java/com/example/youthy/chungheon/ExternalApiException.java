@@ -0,0 +1,18 @@
+package com.example.youthy.chungheon;
+
+import lombok.Getter;
+
+/**
+ * 외부 청년정책 API 호출이 (재시도 후에도) 실패했음을 나타내는 예외입니다.
+ * "더 이상 데이터가 없음(빈 페이지)"과 "호출 실패"를 구분하기 위해, 실패 시 빈 리스트 대신 이 예외를 던집니다.
+ */
+@Getter
+public class ExternalApiException extends RuntimeException {
+
+    private final boolean transientFailure; // 타임아웃/5xx/429 처럼 다시 시도하면 성공할 수 있는 실패인지 여부
+
+    public ExternalApiException(String message, Throwable cause, boolean transientFailure) {
+        super(message, cause);
+        this.transientFailure = transientFailure;
+    }
+}
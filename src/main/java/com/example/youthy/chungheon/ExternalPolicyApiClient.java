@@ -1,40 +1,164 @@
 package com.example.youthy.chungheon;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
+/**
+ * 온통청년 정책 API 클라이언트
+ * 모든 호출은 ResilientApiExecutor 를 거치므로 일시적 실패는 백오프 후 재시도되고,
+ * 재시도 후에도 실패하면 빈 결과 대신 ExternalApiException 을 던집니다. (빈 페이지 = 데이터 끝, 예외 = 호출 실패)
+ * 전송 방식(실제 호출/녹화/재생)은 PolicyApiTransportConfig 의 youth-center.api.mode 로 정해집니다.
+ */
 @Slf4j
 @Component
 public class ExternalPolicyApiClient {
 
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final ResilientApiExecutor executor;
+    private final PolicySyncMetrics metrics;
     private final String apiUrl;
     private final String apiKey;
 
-    public ExternalPolicyApiClient(RestTemplate restTemplate,
+    public ExternalPolicyApiClient(@Qualifier("policyApiRestTemplate") RestTemplate restTemplate,
+                                   ObjectMapper objectMapper,
+                                   ResilientApiExecutor executor,
+                                   PolicySyncMetrics metrics,
                                    @Value("${youth-center.api.url}") String apiUrl,
                                    @Value("${youth-center.api.key}") String apiKey) {
         this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.metrics = metrics;
         this.apiUrl = apiUrl;
         this.apiKey = apiKey;
     }
 
+    /**
+     * 스트리밍 수집 결과
+     * @param totalCount 'pagging.totCount' 값 (응답에 없으면 null)
+     * @param items mapper 로 변환된 정책 아이템 목록
+     */
+    public record StreamedPage<T>(Integer totalCount, List<T> items) {
+    }
+
     /**
      * 특정 페이지의 정책 목록을 외부 API를 통해 가져옵니다.
      * @param pageNum 페이지 번호
      * @param pageSize 페이지 사이즈
-     * @return 정책 아이템 DTO 리스트
+     * @return 정책 아이템 DTO 리스트 (데이터가 없으면 빈 리스트)
+     * @throws ExternalApiException 재시도 후에도 호출에 실패한 경우
      */
     public List<ExternalPolicyDto.YouthPolicyItem> fetchPolicies(int pageNum, int pageSize) {
-        URI uri = UriComponentsBuilder
+        return Optional.ofNullable(fetchPage(pageNum, pageSize))
+                .map(ExternalPolicyDto.ResultData::getYouthPolicyList)
+                .orElse(Collections.emptyList());
+    }
+
+    /**
+     * 특정 페이지의 'result' 객체 전체(pagging + youthPolicyList)를 가져옵니다.
+     * 병렬 수집 시 전체 건수(totCount)로 총 페이지 수를 계산하는 데 사용합니다.
+     * @param pageNum 페이지 번호
+     * @param pageSize 페이지 사이즈
+     * @return 'result' 객체, 응답에 없으면 null
+     * @throws ExternalApiException 재시도 후에도 호출에 실패한 경우
+     */
+    public ExternalPolicyDto.ResultData fetchPage(int pageNum, int pageSize) {
+        URI uri = buildUri(pageNum, pageSize);
+        ExternalPolicyDto.YouthPolicyApiResponse response = executor.execute("page " + pageNum,
+                () -> restTemplate.getForObject(uri, ExternalPolicyDto.YouthPolicyApiResponse.class));
+        return Optional.ofNullable(response)
+                .map(ExternalPolicyDto.YouthPolicyApiResponse::getResult)
+                .orElse(null);
+    }
+
+    /**
+     * 특정 페이지를 응답 전체의 JSON 트리/DTO 목록을 만들지 않고 토큰 단위로 읽으면서,
+     * 'result.youthPolicyList' 의 정책 아이템을 하나 파싱할 때마다 바로 mapper 를 적용합니다.
+     * mapper 는 응답 본문을 읽는 스레드에서 호출되므로, 엔티티 변환이 네트워크 수신과 겹쳐서 진행됩니다.
+     * 변환 결과는 페이지 단위로 모아서 돌려주므로, 한 페이지 분량의 결과는 메모리에 올라갑니다.
+     * 응답 도중 연결이 끊겨 재시도하는 경우 이전 시도에서 변환한 결과는 버리고 새로 만듭니다.
+     * 본문이 올바른 JSON 이 아니면 다시 받아도 같으므로 재시도하지 않고 바로 실패합니다. (서킷 브레이커 실패로도 세지 않음)
+     * @param pageNum 페이지 번호
+     * @param pageSize 페이지 사이즈
+     * @param mapper 파싱된 정책 아이템을 변환할 함수
+     * @return 전체 건수와 변환된 아이템 목록
+     * @throws ExternalApiException 재시도 후에도 호출에 실패했거나 응답 본문이 올바른 JSON 이 아닌 경우
+     */
+    public <T> StreamedPage<T> streamPolicies(int pageNum, int pageSize, Function<ExternalPolicyDto.YouthPolicyItem, T> mapper) {
+        URI uri = buildUri(pageNum, pageSize);
+        StreamedPage<T> page = executor.execute("page " + pageNum,
+                () -> restTemplate.execute(uri, HttpMethod.GET, null, response -> {
+                    try {
+                        return readPage(response.getBody(), pageSize, mapper);
+                    } catch (JsonProcessingException e) {
+                        // IOException 으로 두면 RestTemplate 이 ResourceAccessException(일시적 실패)으로 감쌉니다.
+                        throw new ExternalApiException("Malformed policy API response for page " + pageNum + ": " + e.getOriginalMessage(), e, false);
+                    }
+                }));
+        return page != null ? page : new StreamedPage<>(null, Collections.emptyList());
+    }
+
+    /**
+     * { "result": { "pagging": {...}, "youthPolicyList": [ {...}, ... ] } } 구조를 순서대로 훑습니다.
+     * 관심 없는 필드는 skipChildren()으로 건너뛰므로 필드 순서가 바뀌어도 동작합니다.
+     */
+    private <T> StreamedPage<T> readPage(InputStream body, int pageSize,
+                                         Function<ExternalPolicyDto.YouthPolicyItem, T> mapper) throws IOException {
+        Integer totalCount = null;
+        List<T> items = new ArrayList<>(pageSize);
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new StreamedPage<>(null, items);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"result".equals(field) || value != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String resultField = parser.currentName();
+                    JsonToken resultValue = parser.nextToken();
+                    if ("pagging".equals(resultField) && resultValue == JsonToken.START_OBJECT) {
+                        totalCount = objectMapper.readValue(parser, ExternalPolicyDto.Pagging.class).getTotCount();
+                    } else if ("youthPolicyList".equals(resultField) && resultValue == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            long parseStart = System.nanoTime();
+                            ExternalPolicyDto.YouthPolicyItem item = objectMapper.readValue(parser, ExternalPolicyDto.YouthPolicyItem.class);
+                            metrics.recordParse(System.nanoTime() - parseStart);
+                            items.add(mapper.apply(item));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return new StreamedPage<>(totalCount, items);
+    }
+
+    private URI buildUri(int pageNum, int pageSize) {
+        return UriComponentsBuilder
                 .fromUriString(apiUrl)
                 .queryParam("apiKeyNm", apiKey)
                 .queryParam("rtnType", "json")
@@ -42,16 +166,5 @@ public class ExternalPolicyApiClient {
                 .queryParam("pageSize", pageSize)
                 .build(true)
                 .toUri();
-
-        try {
-            ExternalPolicyDto.YouthPolicyApiResponse response = restTemplate.getForObject(uri, ExternalPolicyDto.YouthPolicyApiResponse.class);
-            return Optional.ofNullable(response)
-                    .map(ExternalPolicyDto.YouthPolicyApiResponse::getResult)
-                    .map(ExternalPolicyDto.ResultData::getYouthPolicyList)
-                    .orElse(Collections.emptyList());
-        } catch (Exception e) {
-            log.error("Failed to fetch policies from external API for page {}: {}", pageNum, e.getMessage());
-            return Collections.emptyList(); // 에러 발생 시 빈 리스트 반환
-        }
     }
 }
@@ -1,12 +1,16 @@
 package com.example.youthy.chungheon;
 
 import com.example.youthy.YouthPolicy;
+import com.example.youthy.util.ApplicationPeriod;
+import com.example.youthy.util.HashUtil;
+import com.example.youthy.util.RegionCodes;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.util.StringUtils;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.StringJoiner;
 
@@ -37,9 +41,24 @@ public class ExternalPolicyDto {
     @NoArgsConstructor
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ResultData {
+        private Pagging pagging;            // 전체 건수 및 현재 페이지 정보
         private List<YouthPolicyItem> youthPolicyList;
     }
 
+    /**
+     * 'pagging' 객체를 감싸는 Wrapper 클래스
+     * API 응답 형식: { "totCount": 2345, "pageNum": 1, "pageSize": 100 }
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Pagging {
+        private Integer totCount;           // 전체 정책 건수
+        private Integer pageNum;            // 현재 페이지 번호
+        private Integer pageSize;           // 페이지 사이즈
+    }
+
     /**
      * 개별 정책 아이템의 모든 필드를 담는 클래스
      * API 응답 파라미터명과 일치하는 필드명을 사용합니다.
@@ -50,6 +69,12 @@ public class ExternalPolicyDto {
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class YouthPolicyItem {
 
+        // toEntity() 변환 규칙 버전
+        // 2: 신청기간을 시작일/마감일/상시 컬럼으로 해석
+        // 3: 관측한 시군구 목록(region_code)을 기준으로 거주지역 코드를 시도 전체/전국 코드로 접음
+        // 4: 3 을 되돌림. API 가 시도 전체/전국 코드를 직접 보낸 경우에만 접고 나머지는 그대로 저장 (RegionCodes.normalize)
+        private static final String CONTENT_HASH_VERSION = "4";
+
         // --- API 응답 필드 ---
         private String plcyNo;              // 정책번호
         private String plcyNm;              // 정책명
@@ -84,6 +109,17 @@ public class ExternalPolicyDto {
          * @return YouthPolicy 엔티티
          */
         public YouthPolicy toEntity() {
+            return toEntity(contentHash(), ApplicationPeriod.parse(this.aplyYmd));
+        }
+
+        /**
+         * 이미 계산해 둔 내용 지문과 신청기간 해석 결과를 사용하여 엔티티로 변환합니다.
+         * (증분 동기화에서 해시와 신청기간을 두 번 계산하지 않기 위함)
+         * @param contentHash contentHash()로 계산한 내용 지문
+         * @param period ApplicationPeriod.parse(aplyYmd) 결과
+         * @return YouthPolicy 엔티티
+         */
+        public YouthPolicy toEntity(String contentHash, ApplicationPeriod period) {
             // 1. 먼저 residence를 제외한 기본 YouthPolicy 객체를 생성합니다.
             YouthPolicy policy = YouthPolicy.builder()
                     .policyNo(this.plcyNo)
@@ -93,6 +129,9 @@ public class ExternalPolicyDto {
                     .supportContent(this.plcySprtCn)
                     .operationPeriod(combineFields(this.bizPrdBgngYmd, this.bizPrdEndYmd, " ~ "))
                     .applicationPeriod(this.aplyYmd)
+                    .applicationStartDate(period.startDate())
+                    .applicationEndDate(period.endDate())
+                    .alwaysOpen(period.alwaysOpen())
                     .supportScale(this.sprtSclCnt)
                     .minAge(this.sprtTrgtMinAge)
                     .maxAge(this.sprtTrgtMaxAge)
@@ -107,22 +146,36 @@ public class ExternalPolicyDto {
                     .evaluationAndAnnouncement(this.srngMthdCn)
                     .applicationSite(this.aplyUrlAddr)
                     .requiredDocuments(this.sbmsnDcmntCn)
+                    .contentHash(contentHash)
                     .build();
 
-            // 2. 생성된 policy 객체에 residence 정보(들)를 추가합니다.
-            if (StringUtils.hasText(this.zipCd)) {
-                String[] zipCodes = this.zipCd.split(",");
-                for (String code : zipCodes) {
-                    if (StringUtils.hasText(code)) {
-                        policy.addResidence(code.trim());
-                    }
-                }
-            }
+            // 2. 생성된 policy 객체에 residence 정보(들)를 추가합니다. (시도 전체는 "SS000", 전국/제한 없음은 "00000" 한 행)
+            List<String> zipCodes = StringUtils.hasText(this.zipCd) ? Arrays.asList(this.zipCd.split(",")) : List.of();
+            RegionCodes.normalize(zipCodes).forEach(policy::addResidence);
 
             // 3. 모든 정보가 채워진 policy 객체를 반환합니다.
             return policy;
         }
 
+        /**
+         * API 원본 필드 전체로 계산한 내용 지문(SHA-256)입니다.
+         * 증분 동기화 시 DB에 저장된 값과 비교해 실제로 바뀐 정책만 다시 쓰는 데 사용합니다.
+         * toEntity() 의 변환 규칙이 바뀌면 CONTENT_HASH_VERSION 을 올려, 다음 동기화에서 모든 정책이 한 번 다시 쓰이도록 합니다.
+         * @return 64자리 16진수 해시 문자열
+         */
+        public String contentHash() {
+            StringBuilder sb = new StringBuilder(1024).append(CONTENT_HASH_VERSION).append('\u001F');
+            for (Object field : new Object[]{
+                    plcyNo, plcyNm, plcyExplnCn, lclsfNm, mclsfNm, plcySprtCn, bizPrdBgngYmd, bizPrdEndYmd,
+                    aplyYmd, sprtSclCnt, sprtTrgtMinAge, sprtTrgtMaxAge, zipCd, earnMinAmt, earnMaxAmt, earnEtcCn,
+                    schoolCd, plcyMajorCd, jobCd, sBizCd, etcMttrCn, ptcpPrpTrgtCn, plcyAplyMthdCn, srngMthdCn,
+                    aplyUrlAddr, sbmsnDcmntCn}) {
+                // null 과 빈 문자열을 구분하기 위해 null 은 별도 문자로 표시합니다.
+                sb.append(field == null ? "\u0000" : field.toString()).append('\u001F');
+            }
+            return HashUtil.sha256(sb.toString());
+        }
+
         /**
          * 정책중분류명(mclsfNm)을 서비스 자체 카테고리("Youthy 카테고리")로 매핑합니다.
          * @param mclsfNm 외부 API의 정책중분류명
@@ -0,0 +1,20 @@
+package com.example.youthy.chungheon;
+
+import com.example.youthy.YouthPolicy;
+
+/**
+ * 수집 워커에서 외부 API 아이템 하나를 바로 변환해 둔 결과입니다.
+ * 원본 아이템 DTO 대신 변환된 엔티티를 들고 있으므로, 한 페이지를 모아 두는 데 드는 메모리는 DTO 목록을 둘 때와 비슷합니다.
+ * (스트리밍으로 아끼는 것은 응답 전체의 JSON 트리/DTO 목록을 한꺼번에 만들지 않는 부분뿐입니다.)
+ * 증분 모드에서는 내용 지문이 같아 쓰지 않을 정책의 엔티티도 미리 만들어 두므로, 변경이 적은 실행에서는 그만큼의 변환이 버려집니다.
+ * @param policyNo 정책번호
+ * @param contentHash 원본 필드의 내용 지문
+ * @param entity 마감되지 않은 정책이면 변환된 엔티티, 마감된 정책이면 null
+ * @param dateParseFailed 신청기간을 해석하지 못해 마감되지 않은 것으로 간주했는지 여부
+ */
+public record MappedPolicy(String policyNo, String contentHash, YouthPolicy entity, boolean dateParseFailed) {
+
+    public boolean active() {
+        return entity != null;
+    }
+}
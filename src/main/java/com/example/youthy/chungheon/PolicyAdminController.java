@@ -1,21 +1,73 @@
 package com.example.youthy.chungheon;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/admin/api/v1/policies")
 public class PolicyAdminController {
 
     private final PolicyUpdateService policyUpdateService;
+    private final PolicySyncJobManager jobManager;
 
+    /**
+     * 동기화를 백그라운드 작업으로 시작하고 작업 id 를 바로 반환합니다. (이미 실행 중이면 409)
+     */
     @PostMapping("/update")
-    public ResponseEntity<String> forceUpdatePolicies() {
-        policyUpdateService.updateAllPoliciesFromApi(); // 수동으로 서비스 실행
-        return ResponseEntity.ok("Policy update process started successfully.");
+    public ResponseEntity<PolicySyncJobStatus> forceUpdatePolicies() {
+        PolicySyncJob job = jobManager.submit("admin"); // 수동으로 서비스 실행
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(PolicySyncJobStatus.from(job));
+    }
+
+    /**
+     * 현재 실행 중인 동기화 작업의 진행 상황 (없으면 204)
+     */
+    @GetMapping("/sync-jobs/current")
+    public ResponseEntity<PolicySyncJobStatus> getCurrentSyncJob() {
+        return jobManager.current()
+                .map(job -> ResponseEntity.ok(PolicySyncJobStatus.from(job)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * 동기화 작업의 상태와 진행 상황 (처리한 페이지, 쓴 행 수, 속도, 남은 예상 시간)
+     */
+    @GetMapping("/sync-jobs/{jobId}")
+    public ResponseEntity<PolicySyncJobStatus> getSyncJob(@PathVariable String jobId) {
+        return jobManager.find(jobId)
+                .map(job -> ResponseEntity.ok(PolicySyncJobStatus.from(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 동기화 작업 취소를 요청합니다. 처리 중인 페이지가 끝나면 중단됩니다.
+     */
+    @PostMapping("/sync-jobs/{jobId}/cancel")
+    public ResponseEntity<PolicySyncJobStatus> cancelSyncJob(@PathVariable String jobId) {
+        if (!jobManager.cancel(jobId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.accepted().body(PolicySyncJobStatus.from(jobManager.find(jobId).orElseThrow()));
+    }
+
+    /**
+     * 최근 동기화 실행 이력 (소요 시간·처리량 추이 확인용)
+     */
+    @GetMapping("/sync-runs")
+    public ResponseEntity<List<PolicySyncRunDto>> getSyncRuns(@RequestParam(defaultValue = "20") int limit) {
+        List<PolicySyncRunDto> runs = policyUpdateService.findRecentRuns(limit).stream()
+                .map(PolicySyncRunDto::from)
+                .toList();
+        return ResponseEntity.ok(runs);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,140 @@
+package com.example.youthy.chungheon;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 청년정책 API 요청 하나에 전체 기한(youth-center.api.request-deadline-ms)을 두는 인터셉터입니다.
+ * JdkClientHttpRequestFactory 의 읽기 타임아웃은 응답 헤더를 받을 때까지만 적용되므로,
+ * 본문을 조금씩 흘려 보내거나 도중에 멈춘 응답은 스트리밍 파싱 스레드를 무한정 붙잡을 수 있습니다.
+ * 기한이 지나면 감시 스레드가 응답을 닫아 막혀 있던 read 를 깨우고, 읽기는 DeadlineExceededException 으로 끝납니다.
+ * ResilientApiExecutor 는 이 예외를 일시적 실패로 보고 재시도합니다.
+ */
+public class PolicyApiDeadlineInterceptor implements ClientHttpRequestInterceptor {
+
+    private final long deadlineMillis;
+    private final ScheduledThreadPoolExecutor watchdog;
+
+    public PolicyApiDeadlineInterceptor(long deadlineMillis) {
+        this.deadlineMillis = deadlineMillis;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("policy-api-deadline-");
+        threadFactory.setDaemon(true);
+        this.watchdog = new ScheduledThreadPoolExecutor(1, threadFactory);
+        this.watchdog.setRemoveOnCancelPolicy(true); // 기한 전에 끝난 요청의 감시 작업은 바로 지웁니다.
+    }
+
+    /**
+     * 요청 전체(헤더 수신 + 본문 읽기)가 기한을 넘긴 경우
+     */
+    public static class DeadlineExceededException extends IOException {
+        public DeadlineExceededException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long start = System.nanoTime();
+        ClientHttpResponse response = execution.execute(request, body);
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMillis) - (System.nanoTime() - start);
+        return new DeadlineResponse(response, request.getURI(), remainingNanos);
+    }
+
+    private class DeadlineResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final URI uri;
+        private final ScheduledFuture<?> timer;
+        private volatile boolean expired;
+        private InputStream body;
+
+        DeadlineResponse(ClientHttpResponse delegate, URI uri, long remainingNanos) {
+            this.delegate = delegate;
+            this.uri = uri;
+            this.timer = watchdog.schedule(this::expire, Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * 응답의 close() 는 남은 본문을 끝까지 읽어 버리므로(커넥션 재사용) 멈춘 응답에서는 함께 멈춥니다.
+         * 그래서 본문 스트림만 닫습니다. 닫히면 read 에서 기다리던 스레드가 IOException 으로 깨어납니다.
+         */
+        private void expire() {
+            expired = true;
+            try {
+                delegate.getBody().close();
+            } catch (IOException ignored) {
+                // 이미 닫혔거나 끊긴 응답
+            }
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public synchronized InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public int read() throws IOException {
+                        checkDeadline(null);
+                        try {
+                            return super.read();
+                        } catch (IOException e) {
+                            checkDeadline(e);
+                            throw e;
+                        }
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        checkDeadline(null);
+                        try {
+                            return super.read(b, off, len);
+                        } catch (IOException e) {
+                            checkDeadline(e);
+                            throw e;
+                        }
+                    }
+                };
+            }
+            return body;
+        }
+
+        private void checkDeadline(IOException cause) throws DeadlineExceededException {
+            if (expired) {
+                throw new DeadlineExceededException(uri.getPath() + " exceeded the request deadline of " + deadlineMillis + " ms", cause);
+            }
+        }
+
+        @Override
+        public void close() {
+            timer.cancel(false);
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.youthy.chungheon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 외부 청년정책 API의 원본 응답을 페이지별 gzip 파일로 저장하는 인터셉터입니다. (youth-center.api.mode=record)
+ * 저장한 파일은 PolicyApiReplayRequestFactory 가 그대로 재생하므로, 실제 API 없이 수집·변환·DB 쓰기 경로를 반복 측정할 수 있습니다.
+ * 본문을 파일로 남기기 위해 응답을 한 번 메모리에 올리므로, 녹화 중에는 스트리밍 파싱의 메모리 이점이 없습니다.
+ */
+@Slf4j
+public class PolicyApiRecorder implements ClientHttpRequestInterceptor {
+
+    private final Path directory;
+
+    public PolicyApiRecorder(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        try (ClientHttpResponse response = execution.execute(request, body)) {
+            byte[] responseBody;
+            try (InputStream in = response.getBody()) {
+                responseBody = in.readAllBytes();
+            }
+            if (response.getStatusCode().is2xxSuccessful()) {
+                save(PolicyApiRecording.pageFile(directory, request.getURI()), responseBody);
+            }
+            return new RecordedHttpResponse(response.getStatusCode(), response.getStatusText(), response.getHeaders(), responseBody);
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이름을 바꾸므로, 녹화 도중 중단되어도 반쯤 쓰인 파일이 재생되지 않습니다.
+     */
+    private void save(Path file, byte[] responseBody) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+            out.write(responseBody);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Recorded {} bytes to {}", responseBody.length, file);
+    }
+}
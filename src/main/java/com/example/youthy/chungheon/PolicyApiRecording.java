@@ -0,0 +1,21 @@
+package com.example.youthy.chungheon;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * 녹화 파일 위치 규칙
+ * 요청 URI 의 pageSize/pageNum 으로 "page-{pageSize}-{pageNum}.json.gz" 파일을 가리킵니다. (API 키는 파일 이름에 남기지 않음)
+ */
+final class PolicyApiRecording {
+
+    private PolicyApiRecording() {
+    }
+
+    static Path pageFile(Path directory, URI uri) {
+        var params = UriComponentsBuilder.fromUri(uri).build().getQueryParams();
+        return directory.resolve("page-" + params.getFirst("pageSize") + "-" + params.getFirst("pageNum") + ".json.gz");
+    }
+}
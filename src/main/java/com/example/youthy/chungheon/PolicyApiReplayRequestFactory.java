@@ -0,0 +1,119 @@
+package com.example.youthy.chungheon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * PolicyApiRecorder 가 남긴 gzip 파일을 네트워크 없이 응답으로 돌려주는 요청 팩토리입니다. (youth-center.api.mode=replay)
+ * - 녹화 파일이 없는 페이지는 빈 목록으로 응답합니다. (= 데이터 끝)
+ * - latencyMillis (+ 0~latencyJitterMillis) 만큼 지연시켜 실제 API의 응답 시간을 흉내 냅니다.
+ * - errorRate 확률로 I/O 오류 또는 503 응답을 섞어, 재시도·서킷 브레이커·실패 페이지 처리 경로도 재현할 수 있습니다.
+ */
+@Slf4j
+public class PolicyApiReplayRequestFactory implements ClientHttpRequestFactory {
+
+    private static final byte[] EMPTY_PAGE = "{\"result\":{\"youthPolicyList\":[]}}".getBytes(StandardCharsets.UTF_8);
+
+    private final Path directory;
+    private final long latencyMillis;
+    private final long latencyJitterMillis;
+    private final double errorRate;
+
+    public PolicyApiReplayRequestFactory(Path directory, long latencyMillis, long latencyJitterMillis, double errorRate) {
+        this.directory = directory;
+        this.latencyMillis = latencyMillis;
+        this.latencyJitterMillis = latencyJitterMillis;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new ReplayRequest(uri, httpMethod);
+    }
+
+    private ClientHttpResponse replay(URI uri) throws IOException {
+        delay();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            if (random.nextBoolean()) {
+                throw new IOException("Injected replay I/O failure for " + uri.getPath());
+            }
+            return new RecordedHttpResponse(HttpStatus.SERVICE_UNAVAILABLE, "Injected replay failure", new HttpHeaders(), new byte[0]);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        Path file = PolicyApiRecording.pageFile(directory, uri);
+        if (!Files.exists(file)) {
+            log.debug("No recording at {}. Replaying an empty page.", file);
+            return new RecordedHttpResponse(HttpStatus.OK, "OK", headers, EMPTY_PAGE);
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new RecordedHttpResponse(HttpStatus.OK, "OK", headers, in.readAllBytes());
+        }
+    }
+
+    private void delay() throws IOException {
+        long millis = latencyMillis + (latencyJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1) : 0);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted during replay latency");
+        }
+    }
+
+    private class ReplayRequest extends AbstractClientHttpRequest {
+
+        private final URI uri;
+        private final HttpMethod method;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        ReplayRequest(URI uri, HttpMethod method) {
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            return replay(uri);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.youthy.chungheon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+
+/**
+ * 외부 청년정책 API 전용 RestTemplate 설정
+ * youth-center.api.mode 로 전송 방식을 고릅니다.
+ * - live (기본): 실제 API 호출
+ * - record: 실제 API를 호출하면서 원본 응답을 recording-dir 에 페이지별 gzip 파일로 저장
+ * - replay: 네트워크 없이 recording-dir 의 파일로 응답 (지연/오류 주입 가능)
+ * 어느 모드든 ExternalPolicyApiClient 의 파싱·재시도 경로는 그대로 타므로, 측정 결과가 실제 수집과 같은 코드를 거칩니다.
+ * live/record 모드에서는 요청마다 본문 읽기까지 포함한 전체 기한(request-deadline-ms)을 둡니다. (PolicyApiDeadlineInterceptor)
+ */
+@Slf4j
+@Configuration
+public class PolicyApiTransportConfig {
+
+    @Value("${youth-center.api.mode:live}")
+    private String mode;
+
+    @Value("${youth-center.api.recording-dir:recordings/youth-center}")
+    private String recordingDir;
+
+    @Value("${youth-center.api.replay.latency-ms:0}")
+    private long replayLatencyMillis;
+
+    @Value("${youth-center.api.replay.latency-jitter-ms:0}")
+    private long replayLatencyJitterMillis;
+
+    @Value("${youth-center.api.replay.error-rate:0.0}")
+    private double replayErrorRate; // 0.0 ~ 1.0
+
+    @Value("${youth-center.api.request-deadline-ms:30000}")
+    private long requestDeadlineMillis; // 요청 하나(헤더 수신 + 본문 읽기)에 허용하는 최대 시간
+
+    /**
+     * 정책 API 호출용 RestTemplate
+     * @param restTemplate 커넥션 풀과 타임아웃이 설정된 공용 RestTemplate (live/record 모드에서 같은 요청 팩토리를 재사용)
+     */
+    @Bean
+    public RestTemplate policyApiRestTemplate(RestTemplate restTemplate) {
+        Path directory = Path.of(recordingDir);
+        switch (mode) {
+            case "live" -> {
+                RestTemplate live = new RestTemplate(restTemplate.getRequestFactory());
+                live.getInterceptors().add(new PolicyApiDeadlineInterceptor(requestDeadlineMillis));
+                return live;
+            }
+            case "record" -> {
+                log.info("Recording youth-center API responses to {}", directory.toAbsolutePath());
+                RestTemplate recording = new RestTemplate(restTemplate.getRequestFactory());
+                recording.getInterceptors().add(new PolicyApiRecorder(directory));
+                // 녹화기가 본문을 끝까지 읽으므로, 기한은 그 안쪽(실제 요청 쪽)에 둡니다.
+                recording.getInterceptors().add(new PolicyApiDeadlineInterceptor(requestDeadlineMillis));
+                return recording;
+            }
+            case "replay" -> {
+                log.info("Replaying youth-center API responses from {} (latency: {}+{} ms, error rate: {})",
+                        directory.toAbsolutePath(), replayLatencyMillis, replayLatencyJitterMillis, replayErrorRate);
+                return new RestTemplate(new PolicyApiReplayRequestFactory(directory, replayLatencyMillis, replayLatencyJitterMillis, replayErrorRate));
+            }
+            default -> throw new IllegalStateException("Unknown youth-center.api.mode: " + mode + " (live, record, replay)");
+        }
+    }
+}
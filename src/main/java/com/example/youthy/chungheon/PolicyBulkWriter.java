@@ -0,0 +1,120 @@
+package com.example.youthy.chungheon;
+
+import com.example.youthy.YouthPolicy;
+import com.example.youthy.YouthPolicyRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 정책 수집 파이프라인 전용 대량 쓰기 컴포넌트입니다.
+ * - policy.sync.chunk-size 건마다 짧은 트랜잭션으로 커밋하고, 청크가 끝날 때마다 영속성 컨텍스트를 비웁니다.
+ * - 신규 정책은 persist(SELECT 없이 INSERT)하고, 기존 정책은 청크 단위로 한 번에 조회한 뒤 달라진 필드만 UPDATE 됩니다.
+ * - PersistenceConfig 의 배치 설정과 PolicyResidence 의 시퀀스 선할당 덕분에 INSERT/UPDATE 가 JDBC 배치로 묶여 전송됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyBulkWriter {
+
+    private final EntityManager entityManager;
+    private final YouthPolicyRepository youthPolicyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PolicySyncMetrics metrics;
+
+    @Value("${policy.sync.chunk-size:500}")
+    private int chunkSize; // 한 트랜잭션에서 쓰는 최대 정책 수
+
+    /**
+     * 쓰기 결과 요약
+     */
+    public record WriteResult(int inserted, int updated, int deleted, long elapsedMillis) {
+        public int rows() {
+            return inserted + updated + deleted;
+        }
+
+        public double rowsPerSecond() {
+            return elapsedMillis > 0 ? rows() * 1000.0 / elapsedMillis : rows();
+        }
+    }
+
+    /**
+     * 정책들을 저장(없으면 insert, 있으면 update)하고, 지정된 정책들을 삭제합니다.
+     * @param upserts toEntity()로 만든 정책 엔티티 목록
+     * @param deletes 삭제할 정책번호 목록
+     * @return 쓰기 결과
+     */
+    public WriteResult write(List<YouthPolicy> upserts, List<String> deletes) {
+        long start = System.nanoTime();
+        int inserted = 0;
+        int updated = 0;
+        for (int from = 0; from < upserts.size(); from += chunkSize) {
+            List<YouthPolicy> chunk = upserts.subList(from, Math.min(from + chunkSize, upserts.size()));
+            long chunkStart = System.nanoTime();
+            WriteResult chunkResult = transactionTemplate.execute(status -> upsertChunk(chunk));
+            metrics.recordChunkWrite(System.nanoTime() - chunkStart, chunkResult.rows());
+            inserted += chunkResult.inserted();
+            updated += chunkResult.updated();
+        }
+        int deleted = deleteChunks(deletes);
+        return new WriteResult(inserted, updated, deleted, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 지정된 정책들을 거주지역과 함께 청크 단위로 삭제합니다.
+     * @param policyNos 삭제할 정책번호 목록
+     * @return 삭제 결과
+     */
+    public WriteResult delete(List<String> policyNos) {
+        return write(List.of(), policyNos);
+    }
+
+    /**
+     * 한 청크를 반영합니다. (트랜잭션 안에서 호출됨)
+     */
+    private WriteResult upsertChunk(List<YouthPolicy> chunk) {
+        // 같은 청크에 같은 정책번호가 두 번 오면 마지막 것을 사용합니다.
+        Map<String, YouthPolicy> incoming = chunk.stream()
+                .collect(Collectors.toMap(YouthPolicy::getPolicyNo, Function.identity(), (a, b) -> b, LinkedHashMap::new));
+        Map<String, YouthPolicy> existing = youthPolicyRepository.findAllWithResidencesByPolicyNoIn(incoming.keySet()).stream()
+                .collect(Collectors.toMap(YouthPolicy::getPolicyNo, Function.identity()));
+
+        int inserted = 0;
+        for (YouthPolicy policy : incoming.values()) {
+            YouthPolicy stored = existing.get(policy.getPolicyNo());
+            if (stored == null) {
+                entityManager.persist(policy);
+                inserted++;
+            } else {
+                stored.updateFrom(policy);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return new WriteResult(inserted, incoming.size() - inserted, 0, 0);
+    }
+
+    private int deleteChunks(List<String> policyNos) {
+        int deleted = 0;
+        for (int from = 0; from < policyNos.size(); from += chunkSize) {
+            List<String> chunk = policyNos.subList(from, Math.min(from + chunkSize, policyNos.size()));
+            long chunkStart = System.nanoTime();
+            int chunkDeleted = transactionTemplate.execute(status -> {
+                youthPolicyRepository.deleteResidencesByPolicyNoIn(chunk);
+                return youthPolicyRepository.deleteByPolicyNoIn(chunk);
+            });
+            metrics.recordChunkWrite(System.nanoTime() - chunkStart, chunkDeleted);
+            deleted += chunkDeleted;
+        }
+        return deleted;
+    }
+}
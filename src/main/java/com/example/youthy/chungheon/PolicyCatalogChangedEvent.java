@@ -0,0 +1,9 @@
+package com.example.youthy.chungheon;
+
+/**
+ * 정책 카탈로그(youth_policy)가 바뀌었음을 알리는 이벤트
+ * 캐시·인덱스처럼 카탈로그에서 파생된 인메모리 구조는 이 이벤트를 받아 갱신합니다.
+ * @param version 새 카탈로그 버전
+ */
+public record PolicyCatalogChangedEvent(long version) {
+}
@@ -0,0 +1,62 @@
+package com.example.youthy.chungheon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 정책 카탈로그 버전
+ * 마지막으로 끝난 동기화 실행(policy_sync_run)의 id 를 버전으로 씁니다. 실행이 끝날 때마다 값이 커지므로,
+ * 버전을 키에 포함한 캐시는 버전이 바뀐 뒤부터 새 데이터를 읽습니다. 버전이 바뀌는 시점은 서버마다 다릅니다.
+ * - 동기화를 실행한 서버: 실행이 끝나는 즉시 advanceTo 로 올립니다.
+ * - 다른 서버: policy.catalog.version-poll-ms(기본 10초)마다 DB를 확인해 따라가므로,
+ *   동기화가 끝난 뒤 최대 한 주기 동안은 이전 버전의 캐시를 그대로 내려줄 수 있습니다.
+ * - 전체/증분 모드는 실행 도중에도 청크마다 커밋하므로, 실행 중에는 어느 서버든 캐시가 DB보다 뒤처질 수 있습니다. (캐시 TTL 이 상한)
+ * 버전이 바뀌면 PolicyCatalogChangedEvent 를 발행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyCatalogVersion {
+
+    private final PolicySyncRunRepository runRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 버전을 주어진 값으로 올립니다. (더 작은 값이면 무시)
+     */
+    public void advanceTo(long newVersion) {
+        long previous = version.getAndAccumulate(newVersion, Math::max);
+        if (newVersion > previous) {
+            log.info("Policy catalog version changed: {} -> {}", previous, newVersion);
+            eventPublisher.publishEvent(new PolicyCatalogChangedEvent(newVersion));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${policy.catalog.version-poll-ms:10000}", initialDelayString = "${policy.catalog.version-poll-ms:10000}")
+    public void refresh() {
+        try {
+            runRepository.findFirstByFinishedAtIsNotNullOrderByIdDesc()
+                    .ifPresent(run -> advanceTo(run.getId()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll the policy catalog version: {}", e.getMessage());
+        }
+    }
+}
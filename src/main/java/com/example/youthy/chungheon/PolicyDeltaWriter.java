@@ -0,0 +1,104 @@
+package com.example.youthy.chungheon;
+
+import com.example.youthy.YouthPolicy;
+import com.example.youthy.YouthPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 내용 지문(contentHash)을 비교하여 실제로 달라진 정책만 insert/update/delete 하는 증분 동기화 컴포넌트입니다.
+ * 페이지마다 지문을 한 번의 쿼리로 조회하므로, 바뀌지 않은 정책은 DB 쓰기가 일어나지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyDeltaWriter {
+
+    private final YouthPolicyRepository youthPolicyRepository;
+    private final PolicyBulkWriter bulkWriter;
+
+    /**
+     * 증분 반영 결과
+     */
+    public record DeltaResult(int inserted, int updated, int deleted, int unchanged) {
+        public static final DeltaResult EMPTY = new DeltaResult(0, 0, 0, 0);
+
+        public DeltaResult plus(DeltaResult other) {
+            return new DeltaResult(inserted + other.inserted, updated + other.updated,
+                    deleted + other.deleted, unchanged + other.unchanged);
+        }
+
+        public int written() {
+            return inserted + updated + deleted;
+        }
+    }
+
+    /**
+     * 한 페이지 분량의 정책을 DB와 비교하여 달라진 것만 반영합니다.
+     * - 마감되지 않은 정책: DB에 없으면 insert, 지문이 다르면 update
+     * - 마감된 정책: DB에 남아 있다면 delete
+     * @param policies 수집 워커에서 변환된 한 페이지 분량의 정책
+     * @return 반영 결과
+     */
+    public DeltaResult applyPage(List<MappedPolicy> policies) {
+        Set<String> pagePolicyNos = new LinkedHashSet<>();
+        policies.forEach(policy -> pagePolicyNos.add(policy.policyNo()));
+        if (pagePolicyNos.isEmpty()) {
+            return DeltaResult.EMPTY;
+        }
+
+        // 1. 페이지에 포함된 정책들의 저장된 지문을 한 번에 조회합니다.
+        Map<String, String> storedHashes = new HashMap<>();
+        for (YouthPolicyRepository.ContentHashView view : youthPolicyRepository.findContentHashesByPolicyNoIn(pagePolicyNos)) {
+            storedHashes.put(view.getPolicyNo(), view.getContentHash());
+        }
+
+        // 2. 지문이 없거나(신규) 다른(변경) 정책만 저장하고, 마감되었는데 DB에 남아 있는 정책은 삭제합니다.
+        List<YouthPolicy> toSave = new ArrayList<>();
+        List<String> toDelete = new ArrayList<>();
+        int inserted = 0;
+        int updated = 0;
+        int unchanged = 0;
+        for (MappedPolicy policy : policies) {
+            boolean stored = storedHashes.containsKey(policy.policyNo());
+            if (!policy.active()) {
+                if (stored && !toDelete.contains(policy.policyNo())) {
+                    toDelete.add(policy.policyNo());
+                }
+            } else if (!stored) {
+                toSave.add(policy.entity());
+                inserted++;
+            } else if (!Objects.equals(policy.contentHash(), storedHashes.get(policy.policyNo()))) {
+                toSave.add(policy.entity());
+                updated++;
+            } else {
+                unchanged++;
+            }
+        }
+
+        int deleted = bulkWriter.write(toSave, toDelete).deleted();
+        return new DeltaResult(inserted, updated, deleted, unchanged);
+    }
+
+    /**
+     * 이번 동기화에서 외부 API에 한 번도 나타나지 않은 정책을 삭제합니다.
+     * 전체 페이지를 빠짐없이 수집한 경우에만 호출해야 합니다.
+     * @param seenPolicyNos 이번 동기화에서 수집된 모든 정책번호 (마감된 정책 포함)
+     * @return 삭제된 정책 수
+     */
+    public int purgeMissing(Set<String> seenPolicyNos) {
+        List<String> stale = youthPolicyRepository.findAllPolicyNos().stream()
+                .filter(policyNo -> !seenPolicyNos.contains(policyNo))
+                .toList();
+        return bulkWriter.delete(stale).deleted();
+    }
+}
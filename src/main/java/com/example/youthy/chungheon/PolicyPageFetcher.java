@@ -0,0 +1,269 @@
+package com.example.youthy.chungheon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * 외부 API로부터 정책 페이지들을 수집하는 컴포넌트입니다.
+ * - 순차 모드: 1페이지부터 빈 페이지가 나올 때까지 차례로 요청합니다.
+ * - 병렬 모드: 1페이지의 pagging.totCount 로 총 페이지 수를 구한 뒤, 동시 요청 수가 제한된 워커 풀로 나머지 페이지를 요청합니다.
+ * 각 아이템은 페이지를 받은 스레드에서 mapper 로 변환되며, PageHandler 는 호출 스레드에서 페이지 번호 순서대로 호출됩니다.
+ * 스트리밍 모드에서는 응답을 토큰 단위로 읽으면서 아이템마다 바로 mapper 를 적용합니다.
+ * 재시도 후에도 실패한 페이지는 '데이터 끝'으로 보지 않고 실패 페이지로 기록한 뒤 다음 페이지로 넘어갑니다.
+ * 서킷 브레이커가 열리면(CircuitOpenException) 남은 페이지를 요청하지 않고 수집 전체를 중단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyPageFetcher {
+
+    private static final int MAX_CONSECUTIVE_FAILURES = 3; // 순차 모드에서 연속으로 이만큼 실패하면 중단
+
+    private final ExternalPolicyApiClient apiClient;
+    private final PolicySyncMetrics metrics;
+
+    @Value("${policy.sync.parallel.concurrency:4}")
+    private int concurrency; // 동시에 외부 API를 호출하는 최대 워커 수
+
+    @Value("${policy.sync.streaming.enabled:true}")
+    private boolean streamingEnabled; // 응답을 스트리밍으로 파싱할지 여부
+
+    /**
+     * 수집·변환된 한 페이지를 처리하는 콜백입니다.
+     */
+    @FunctionalInterface
+    public interface PageHandler<T> {
+        void handle(int pageNum, List<T> items);
+
+        /**
+         * 처리할 전체 페이지 수와 전체 건수를 알게 되었을 때 호출됩니다. (진행률 계산용)
+         */
+        default void onTotal(int totalPages, int totalCount) {
+        }
+    }
+
+    /**
+     * 수집 결과 요약
+     * @param pages 처리된 페이지 수
+     * @param items 처리된 정책 아이템 수
+     * @param failedPages 재시도 후에도 받지 못한 페이지 수
+     * @param totalCount API가 알려준 전체 건수 (알 수 없으면 null)
+     * @param elapsedMillis 수집에 걸린 시간
+     */
+    public record FetchResult(int pages, int items, int failedPages, Integer totalCount, long elapsedMillis) {
+        public double pagesPerSecond() {
+            return elapsedMillis > 0 ? pages * 1000.0 / elapsedMillis : pages;
+        }
+
+        /**
+         * 실패한 페이지 없이 전체 건수만큼 수집했는지 여부 (삭제 반영/publish 판단에 사용)
+         */
+        public boolean complete() {
+            return failedPages == 0 && (totalCount == null || items >= totalCount);
+        }
+    }
+
+    /**
+     * 1페이지부터 빈 페이지가 나올 때까지 순서대로 수집합니다.
+     * @param pageSize 페이지 사이즈
+     * @param maxPages 최대 페이지 수 (0 이하이면 제한 없음)
+     * @param mapper 아이템 변환 함수
+     * @throws ExternalApiException 서킷 브레이커가 열렸거나 연속으로 MAX_CONSECUTIVE_FAILURES 페이지를 받지 못한 경우
+     */
+    public <T> FetchResult fetchSequential(int pageSize, int maxPages,
+                                           Function<ExternalPolicyDto.YouthPolicyItem, T> mapper,
+                                           PageHandler<T> handler) {
+        long start = System.nanoTime();
+        int pages = 0;
+        int items = 0;
+        int failedPages = 0;
+        int consecutiveFailures = 0;
+        Integer totalCount = null;
+        for (int pageNum = 1; maxPages <= 0 || pageNum <= maxPages; pageNum++) {
+            LoadedPage<T> page;
+            try {
+                page = loadPage(pageNum, pageSize, mapper);
+            } catch (CircuitOpenException e) {
+                throw e;
+            } catch (ExternalApiException e) {
+                log.error("Failed to fetch page {}: {}", pageNum, e.getMessage());
+                failedPages++;
+                if (++consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
+                    throw new ExternalApiException("Giving up after " + consecutiveFailures + " consecutive page failures", e, e.isTransientFailure());
+                }
+                continue;
+            }
+            consecutiveFailures = 0;
+            if (page.totalCount() != null && !page.totalCount().equals(totalCount)) {
+                totalCount = page.totalCount();
+                int totalPages = (totalCount + pageSize - 1) / pageSize;
+                handler.onTotal(maxPages > 0 ? Math.min(totalPages, maxPages) : totalPages, totalCount);
+            }
+            List<T> fetchedItems = page.items();
+            if (fetchedItems.isEmpty()) {
+                log.info("No more policies to fetch. Exiting loop.");
+                break; // 더 이상 가져올 데이터가 없으면 중단
+            }
+            handler.handle(pageNum, fetchedItems);
+            pages++;
+            items += fetchedItems.size();
+        }
+        return new FetchResult(pages, items, failedPages, totalCount, elapsedMillis(start));
+    }
+
+    /**
+     * 전체 건수를 기준으로 모든 페이지를 병렬로 수집합니다.
+     * 동시에 진행 중이거나 처리 대기 중인 페이지는 최대 concurrency * 2 개로 제한되므로,
+     * 메모리에는 많아야 그만큼의 페이지(페이지마다 pageSize 개의 변환 결과)만 올라갑니다.
+     * 전체 건수와는 무관하지만 concurrency 와 pageSize 에 비례합니다.
+     * @param pageSize 페이지 사이즈
+     * @param maxPages 최대 페이지 수 (0 이하이면 제한 없음)
+     * @param mapper 아이템 변환 함수 (워커 스레드에서 호출됨)
+     * @throws ExternalApiException 첫 페이지를 받지 못했거나 서킷 브레이커가 열린 경우
+     */
+    public <T> FetchResult fetchParallel(int pageSize, int maxPages,
+                                         Function<ExternalPolicyDto.YouthPolicyItem, T> mapper,
+                                         PageHandler<T> handler) {
+        long start = System.nanoTime();
+
+        // 1. 첫 페이지로 전체 건수를 확인합니다.
+        LoadedPage<T> first = loadPage(1, pageSize, mapper);
+        Integer totalCount = first.totalCount();
+
+        if (first.items().isEmpty()) {
+            log.info("No policies returned from the first page.");
+            return new FetchResult(0, 0, 0, totalCount, elapsedMillis(start));
+        }
+        if (totalCount == null) {
+            log.warn("No pagging info in the API response. Falling back to sequential fetch.");
+            return fetchSequential(pageSize, maxPages, mapper, handler);
+        }
+
+        int totalPages = (totalCount + pageSize - 1) / pageSize;
+        if (maxPages > 0) {
+            totalPages = Math.min(totalPages, maxPages);
+        }
+        int workers = Math.max(1, Math.min(concurrency, totalPages));
+        log.info("Fetching {} pages ({} policies) with {} workers. (streaming: {})", totalPages, totalCount, workers, streamingEnabled);
+        handler.onTotal(totalPages, totalCount);
+
+        handler.handle(1, first.items());
+        int pages = 1;
+        int items = first.items().size();
+        int failedPages = 0;
+
+        // 2. 나머지 페이지를 워커 풀에 제출하고, 제출한 순서(=페이지 순서)대로 결과를 꺼내 처리합니다.
+        ExecutorService pool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("policy-fetch-"));
+        Deque<PendingPage<T>> window = new ArrayDeque<>();
+        try {
+            int nextPage = 2;
+            while (nextPage <= totalPages && window.size() < workers * 2) {
+                window.add(submit(pool, nextPage++, pageSize, mapper));
+            }
+            while (!window.isEmpty()) {
+                PendingPage<T> pending = window.poll();
+                if (nextPage <= totalPages) {
+                    window.add(submit(pool, nextPage++, pageSize, mapper));
+                }
+                List<T> fetchedItems;
+                try {
+                    fetchedItems = await(pending);
+                } catch (CircuitOpenException e) {
+                    throw e;
+                } catch (ExternalApiException e) {
+                    log.error("Failed to fetch page {} of {}: {}", pending.pageNum(), totalPages, e.getMessage());
+                    failedPages++;
+                    continue;
+                }
+                if (fetchedItems.isEmpty()) {
+                    log.warn("Page {} of {} returned no policies.", pending.pageNum(), totalPages);
+                    continue;
+                }
+                handler.handle(pending.pageNum(), fetchedItems);
+                pages++;
+                items += fetchedItems.size();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new FetchResult(pages, items, failedPages, totalCount, elapsedMillis(start));
+    }
+
+    /**
+     * 한 페이지를 받아 아이템마다 mapper 를 적용합니다.
+     * 스트리밍 모드에서는 아이템이 파싱되는 즉시 변환되므로 응답 전체의 DTO 목록이 만들어지지 않습니다.
+     */
+    private <T> LoadedPage<T> loadPage(int pageNum, int pageSize, Function<ExternalPolicyDto.YouthPolicyItem, T> mapper) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            LoadedPage<T> page = requestPage(pageNum, pageSize, mapper);
+            success = true;
+            return page;
+        } finally {
+            metrics.recordPageFetch(System.nanoTime() - start, success);
+        }
+    }
+
+    private <T> LoadedPage<T> requestPage(int pageNum, int pageSize, Function<ExternalPolicyDto.YouthPolicyItem, T> mapper) {
+        if (streamingEnabled) {
+            ExternalPolicyApiClient.StreamedPage<T> page = apiClient.streamPolicies(pageNum, pageSize, mapper);
+            return new LoadedPage<>(page.items(), page.totalCount());
+        }
+        ExternalPolicyDto.ResultData result = apiClient.fetchPage(pageNum, pageSize);
+        List<T> mapped = Optional.ofNullable(result)
+                .map(ExternalPolicyDto.ResultData::getYouthPolicyList)
+                .orElse(Collections.emptyList())
+                .stream()
+                .map(mapper)
+                .toList();
+        Integer totalCount = Optional.ofNullable(result)
+                .map(ExternalPolicyDto.ResultData::getPagging)
+                .map(ExternalPolicyDto.Pagging::getTotCount)
+                .orElse(null);
+        return new LoadedPage<>(mapped, totalCount);
+    }
+
+    private <T> PendingPage<T> submit(ExecutorService pool, int pageNum, int pageSize,
+                                      Function<ExternalPolicyDto.YouthPolicyItem, T> mapper) {
+        return new PendingPage<>(pageNum, pool.submit(() -> loadPage(pageNum, pageSize, mapper).items()));
+    }
+
+    private static <T> List<T> await(PendingPage<T> pending) {
+        try {
+            return pending.future().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching page " + pending.pageNum(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ExternalApiException apiException) {
+                throw apiException;
+            }
+            throw new IllegalStateException("Failed to fetch page " + pending.pageNum(), e.getCause());
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private record LoadedPage<T>(List<T> items, Integer totalCount) {
+    }
+
+    private record PendingPage<T>(int pageNum, Future<List<T>> future) {
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.youthy.chungheon;
+
+import com.example.youthy.PolicyResidence;
+import com.example.youthy.YouthPolicy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 정책 카탈로그를 스테이징 테이블(youth_policy_staging, policy_residence_staging)에 먼저 적재한 뒤,
+ * 건수를 검증하고 하나의 트랜잭션으로 운영 테이블에 반영(publish)하는 컴포넌트입니다.
+ * - 적재 중에는 운영 테이블을 전혀 건드리지 않으므로, 조회 API는 동기화 도중의 반쯤 바뀐 카탈로그를 보지 않습니다.
+ * - publish 는 운영 테이블을 통째로 지우고 다시 넣지 않고, 내용 지문(content_hash)으로 비교해 사라진/바뀐/새 정책만
+ *   집합 단위 SQL(DELETE / UPDATE / INSERT ... SELECT) 몇 문장으로 반영합니다.
+ *   그래서 트랜잭션이 짧고, 바뀌지 않은 정책 행은 잠그지 않아 조회수 반영(PolicyViewCounter) 같은 다른 쓰기를 막지 않습니다.
+ * - publish 트랜잭션이 커밋되기 전까지 조회 쪽은 직전에 publish 된 카탈로그를 그대로 읽습니다. (MVCC)
+ * - 조회수(view_count)는 서비스 자체 관리 값이므로 publish 에서 건드리지 않습니다. (새 정책은 0)
+ * - 거주지역 id 는 적재할 때 엔티티와 같은 시퀀스 생성기에서 미리 받아 두므로, publish 에서 INSERT ... SELECT 로 옮길 수 있습니다.
+ * - 스테이징 테이블에도 정책번호 기본 키/인덱스를 두어, publish 의 비교와 덮어쓰기가 정책마다 인덱스 조회 한 번으로 끝나게 합니다.
+ *   바뀐 정책 덮어쓰기는 MySQL 의 UPDATE ... JOIN 문법을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyShadowLoader {
+
+    private static final String POLICY_STAGING = "youth_policy_staging";
+    private static final String RESIDENCE_STAGING = "policy_residence_staging";
+
+    // 스테이징에 적재하는 컬럼 목록 (YouthPolicy 에 외부 API 유래 컬럼을 추가하면 여기에도 추가해야 합니다)
+    private static final String POLICY_COLUMNS = "policy_no, policy_name, policy_summary, policy_field, support_content, "
+            + "operation_period, application_period, support_scale, min_age, max_age, income_condition, "
+            + "education_requirement, major_requirement, employment_status, specialized_field, additional_info, "
+            + "participation_restriction, application_process, evaluation_announcement, application_site, "
+            + "required_documents, view_count, content_hash, application_start_date, application_end_date, always_open";
+
+    // publish 에서 바뀐 정책에 덮어쓰는 컬럼 (정책번호와 조회수 제외)
+    private static final List<String> UPDATED_COLUMNS = List.of("policy_name", "policy_summary", "policy_field",
+            "support_content", "operation_period", "application_period", "support_scale", "min_age", "max_age",
+            "income_condition", "education_requirement", "major_requirement", "employment_status", "specialized_field",
+            "additional_info", "participation_restriction", "application_process", "evaluation_announcement",
+            "application_site", "required_documents", "content_hash", "application_start_date", "application_end_date",
+            "always_open");
+
+    // 스테이징과 내용 지문이 같은(바뀌지 않은) 운영 정책인지 (바깥 쿼리의 정책번호 컬럼을 %s 에 넣어 EXISTS 로 사용)
+    private static final String UNCHANGED_POLICY = "SELECT 1 FROM " + POLICY_STAGING + " s "
+            + "JOIN youth_policy p ON p.policy_no = s.policy_no AND p.content_hash = s.content_hash WHERE s.policy_no = %s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final PolicySyncMetrics metrics;
+
+    @Value("${policy.sync.shadow.min-ratio:0.5}")
+    private double minRatio; // 스테이징 건수가 운영 건수의 이 비율보다 적으면 publish 하지 않음 (외부 API 장애 방어)
+
+    @Value("${policy.sync.jdbc-batch-size:100}")
+    private int batchSize;
+
+    /**
+     * publish 결과
+     * @param policies 반영 후 운영 정책 수 (= 스테이징 정책 수)
+     * @param inserted 새로 추가된 정책 수
+     * @param updated 내용이 바뀌어 덮어쓴 정책 수
+     * @param deleted 외부 API 에서 사라져 지운 정책 수
+     * @param residences 새로 쓴 거주지역 수 (추가/변경된 정책의 거주지역)
+     * @param elapsedMillis publish 트랜잭션에 걸린 시간
+     */
+    public record PublishResult(int policies, int inserted, int updated, int deleted, int residences, long elapsedMillis) {
+    }
+
+    /**
+     * 스테이징 테이블을 운영 테이블과 같은 컬럼 구성으로 새로 만듭니다.
+     * 매번 다시 만들기 때문에 운영 테이블에 컬럼이 추가되어도 스테이징 구성이 어긋나지 않습니다.
+     * CREATE TABLE ... AS SELECT 는 키와 인덱스를 복사하지 않으므로, publish 에서 정책번호로 찾을 수 있게 따로 만듭니다.
+     */
+    public void prepare() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + POLICY_STAGING);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + RESIDENCE_STAGING);
+        jdbcTemplate.execute("CREATE TABLE " + POLICY_STAGING + " AS SELECT * FROM youth_policy WHERE 1 = 0");
+        jdbcTemplate.execute("ALTER TABLE " + POLICY_STAGING + " ADD PRIMARY KEY (policy_no)");
+        jdbcTemplate.execute("CREATE TABLE " + RESIDENCE_STAGING + " (id BIGINT NOT NULL, policy_no VARCHAR(50) NOT NULL, zip_code VARCHAR(10))");
+        jdbcTemplate.execute("CREATE INDEX idx_residence_staging_policy ON " + RESIDENCE_STAGING + " (policy_no)");
+    }
+
+    /**
+     * 정책들을 스테이징 테이블에 배치 INSERT 합니다. (운영 테이블에는 영향 없음)
+     * @param policies 적재할 정책 엔티티 목록 (정책번호 중복이 없어야 함)
+     */
+    public void load(List<YouthPolicy> policies) {
+        if (policies.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + POLICY_STAGING + " (" + POLICY_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                policies, batchSize, (ps, p) -> {
+                    ps.setString(1, p.getPolicyNo());
+                    ps.setString(2, p.getPolicyName());
+                    ps.setString(3, p.getPolicySummary());
+                    ps.setString(4, p.getPolicyField());
+                    ps.setString(5, p.getSupportContent());
+                    ps.setString(6, p.getOperationPeriod());
+                    ps.setString(7, p.getApplicationPeriod());
+                    ps.setString(8, p.getSupportScale());
+                    ps.setObject(9, p.getMinAge(), Types.INTEGER);
+                    ps.setObject(10, p.getMaxAge(), Types.INTEGER);
+                    ps.setString(11, p.getIncomeCondition());
+                    ps.setString(12, p.getEducationRequirement());
+                    ps.setString(13, p.getMajorRequirement());
+                    ps.setString(14, p.getEmploymentStatus());
+                    ps.setString(15, p.getSpecializedField());
+                    ps.setString(16, p.getAdditionalInfo());
+                    ps.setString(17, p.getParticipationRestriction());
+                    ps.setString(18, p.getApplicationProcess());
+                    ps.setString(19, p.getEvaluationAndAnnouncement());
+                    ps.setString(20, p.getApplicationSite());
+                    ps.setString(21, p.getRequiredDocuments());
+                    ps.setInt(22, 0);
+                    ps.setString(23, p.getContentHash());
+                    ps.setObject(24, p.getApplicationStartDate(), Types.DATE);
+                    ps.setObject(25, p.getApplicationEndDate(), Types.DATE);
+                    ps.setBoolean(26, p.isAlwaysOpen());
+                });
+
+        List<StagedResidence> residences = transactionTemplate.execute(status -> assignResidenceIds(policies));
+        jdbcTemplate.batchUpdate("INSERT INTO " + RESIDENCE_STAGING + " (id, policy_no, zip_code) VALUES (?, ?, ?)",
+                residences, batchSize, (ps, r) -> {
+                    ps.setLong(1, r.id());
+                    ps.setString(2, r.policyNo());
+                    ps.setString(3, r.zipCode());
+                });
+        metrics.recordChunkWrite(System.nanoTime() - start, policies.size());
+    }
+
+    /**
+     * 스테이징 건수를 검증한 뒤, 하나의 트랜잭션으로 운영 테이블을 스테이징 내용과 같게 만듭니다.
+     * 사라진/바뀐/새 정책만 집합 단위 SQL 로 반영하고, 바뀌지 않은 정책 행은 건드리지 않습니다.
+     * @param expectedPolicies 이번 동기화에서 적재했다고 기록한 정책 수
+     * @return publish 결과
+     * @throws IllegalStateException 스테이징 건수가 기대값과 다르거나 운영 건수에 비해 지나치게 적은 경우 (운영 테이블은 그대로 유지)
+     */
+    public PublishResult publish(int expectedPolicies) {
+        // 1. 건수 검증 (읽기만 하므로 반영 트랜잭션 밖에서)
+        int staged = count(POLICY_STAGING);
+        int live = count("youth_policy");
+        if (staged != expectedPolicies) {
+            throw new IllegalStateException("Staged policy count mismatch: expected " + expectedPolicies + " but was " + staged);
+        }
+        if (live > 0 && staged < live * minRatio) {
+            throw new IllegalStateException("Staged policy count " + staged + " is below " + minRatio + " of live count " + live);
+        }
+
+        long start = System.nanoTime();
+        PublishResult result = transactionTemplate.execute(status -> {
+            // 2. 내용 지문을 덮어쓰기 전에 비교: 바뀌지 않은 정책의 스테이징 거주지역은 버리고,
+            //    사라졌거나 바뀐 정책의 운영 거주지역은 삭제
+            jdbcTemplate.update("DELETE FROM " + RESIDENCE_STAGING + " WHERE EXISTS ("
+                    + UNCHANGED_POLICY.formatted(RESIDENCE_STAGING + ".policy_no") + ")");
+            jdbcTemplate.update("DELETE FROM policy_residence WHERE NOT EXISTS ("
+                    + UNCHANGED_POLICY.formatted("policy_residence.policy_no") + ")");
+            // 3. 사라진 정책 삭제
+            int deleted = jdbcTemplate.update("DELETE FROM youth_policy WHERE NOT EXISTS "
+                    + "(SELECT 1 FROM " + POLICY_STAGING + " s WHERE s.policy_no = youth_policy.policy_no)");
+            // 4. 바뀐 정책 덮어쓰기 (조회수는 유지)
+            int updated = jdbcTemplate.update(updateChangedPoliciesSql());
+            // 5. 새 정책 추가
+            int inserted = jdbcTemplate.update("INSERT INTO youth_policy (" + POLICY_COLUMNS + ") SELECT " + POLICY_COLUMNS
+                    + " FROM " + POLICY_STAGING + " s WHERE NOT EXISTS (SELECT 1 FROM youth_policy p WHERE p.policy_no = s.policy_no)");
+            // 6. 바뀌었거나 새로 추가된 정책의 거주지역 복사 (2 에서 남긴 스테이징 거주지역, id 는 적재할 때 받아 둠)
+            int residences = jdbcTemplate.update("INSERT INTO policy_residence (id, policy_no, zip_code) "
+                    + "SELECT id, policy_no, zip_code FROM " + RESIDENCE_STAGING);
+            return new PublishResult(staged, inserted, updated, deleted, residences, 0);
+        });
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new PublishResult(result.policies(), result.inserted(), result.updated(), result.deleted(),
+                result.residences(), elapsedMillis);
+    }
+
+    /**
+     * 스테이징과 정책번호로 조인해 내용 지문이 다른 정책만 덮어씁니다. (스테이징 기본 키로 정책마다 한 번만 찾음)
+     */
+    private static String updateChangedPoliciesSql() {
+        StringJoiner assignments = new StringJoiner(", ");
+        for (String column : UPDATED_COLUMNS) {
+            assignments.add("p." + column + " = s." + column);
+        }
+        return "UPDATE youth_policy p JOIN " + POLICY_STAGING + " s ON s.policy_no = p.policy_no SET " + assignments
+                + " WHERE p.content_hash IS NULL OR s.content_hash <> p.content_hash";
+    }
+
+    private record StagedResidence(long id, String policyNo, String zipCode) {
+    }
+
+    /**
+     * 거주지역마다 PolicyResidence 엔티티와 같은 시퀀스 생성기에서 id 를 받습니다.
+     * (생성기가 allocationSize 만큼 미리 할당받으므로 DB 호출은 100건에 한 번 정도)
+     */
+    private List<StagedResidence> assignResidenceIds(List<YouthPolicy> policies) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(PolicyResidence.class).getGenerator();
+        List<StagedResidence> residences = new ArrayList<>();
+        for (YouthPolicy policy : policies) {
+            for (PolicyResidence residence : policy.getResidences()) {
+                long id = ((Number) generator.generate(session, null)).longValue();
+                residences.add(new StagedResidence(id, policy.getPolicyNo(), residence.getZipCode()));
+            }
+        }
+        return residences;
+    }
+
+    private int count(String table) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+        return count != null ? count : 0;
+    }
+}
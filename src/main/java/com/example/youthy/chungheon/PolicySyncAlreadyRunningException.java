@@ -0,0 +1,17 @@
+package com.example.youthy.chungheon;
+
+import lombok.Getter;
+
+/**
+ * 이미 다른 정책 동기화가 실행 중이라 새 동기화를 시작할 수 없음을 나타내는 예외입니다.
+ */
+@Getter
+public class PolicySyncAlreadyRunningException extends RuntimeException {
+
+    private final String runningJobId;
+
+    public PolicySyncAlreadyRunningException(String runningJobId) {
+        super("A policy sync is already running: " + runningJobId);
+        this.runningJobId = runningJobId;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.youthy.chungheon;
+
+/**
+ * 관리자가 취소를 요청해 정책 동기화가 중단되었음을 나타내는 예외입니다.
+ * 이미 커밋된 청크는 그대로 남고, 삭제 반영(purge)과 섀도 publish 는 실행되지 않습니다.
+ */
+public class PolicySyncCancelledException extends RuntimeException {
+
+    public PolicySyncCancelledException(int pagesDone) {
+        super("Policy sync cancelled after " + pagesDone + " pages");
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.youthy.chungheon;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 백그라운드에서 실행되는 정책 동기화 작업 한 건
+ * 진행 상황은 stats 에 실시간으로 쌓이며, 상태 조회 API는 이 객체를 읽어 응답합니다.
+ */
+@Getter
+public class PolicySyncJob {
+
+    public enum State { QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED, SKIPPED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String trigger; // scheduler, admin
+    private final Instant submittedAt = Instant.now();
+    private final PolicySyncStats stats = new PolicySyncStats();
+
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Long runId;          // 성공 시 policy_sync_run 이력 id
+    private volatile String errorMessage;
+
+    public PolicySyncJob(String trigger) {
+        this.trigger = trigger;
+    }
+
+    public boolean isActive() {
+        return state == State.QUEUED || state == State.RUNNING;
+    }
+
+    void markRunning() {
+        this.startedAt = Instant.now();
+        this.state = State.RUNNING;
+    }
+
+    void markFinished(State state, Long runId, String errorMessage) {
+        this.finishedAt = Instant.now();
+        this.runId = runId;
+        this.errorMessage = errorMessage;
+        this.state = state;
+    }
+}
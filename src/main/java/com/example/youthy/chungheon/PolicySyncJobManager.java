@@ -0,0 +1,143 @@
+package com.example.youthy.chungheon;
+
+import com.example.youthy.service.SchedulerLockService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 정책 동기화를 백그라운드 작업으로 실행하고 관리합니다.
+ * - 스케줄러와 관리자 요청 모두 이 클래스를 거치므로, 동기화는 항상 한 번에 하나만 실행됩니다.
+ * - 요청 스레드는 작업 id 만 받아 바로 반환되고, 진행 상황은 작업 id 로 조회합니다.
+ * - 취소는 협조적으로 처리됩니다. 실행 중인 페이지 처리가 끝나면 다음 페이지로 넘어가기 전에 중단합니다.
+ * - 여러 서버가 떠 있어도 DB 임대 잠금(LOCK_NAME)을 얻은 서버 한 곳에서만 실행되고, 나머지는 SKIPPED 로 끝납니다.
+ *   실행 도중 잠금을 잃으면(다른 서버가 인계) 취소를 요청해 두 서버가 동시에 쓰지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class PolicySyncJobManager {
+
+    private static final int HISTORY_SIZE = 20; // 상태 조회를 위해 보관할 최근 작업 수
+    private static final String LOCK_NAME = "policy-sync";
+
+    private final PolicyUpdateService policyUpdateService;
+    private final SchedulerLockService lockService;
+    private final Duration leaseDuration;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("policy-sync-"));
+    private final AtomicReference<PolicySyncJob> current = new AtomicReference<>();
+    private final Map<String, PolicySyncJob> recentJobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PolicySyncJob> eldest) {
+            return size() > HISTORY_SIZE;
+        }
+    });
+
+    public PolicySyncJobManager(PolicyUpdateService policyUpdateService,
+                                SchedulerLockService lockService,
+                                @Value("${policy.sync.lock.lease-seconds:120}") long leaseSeconds) {
+        this.policyUpdateService = policyUpdateService;
+        this.lockService = lockService;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(cron = "0 0 4 * * *") // 초 분 시 일 월 요일 > 새벽 4시에 DB 업데이트
+    public void scheduledSync() {
+        try {
+            submit("scheduler");
+        } catch (PolicySyncAlreadyRunningException e) {
+            log.warn("Skip scheduled policy sync: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 동기화 작업을 백그라운드에 제출합니다.
+     * @param trigger 실행 주체 (scheduler, admin)
+     * @return 제출된 작업
+     * @throws PolicySyncAlreadyRunningException 다른 동기화가 이미 실행 중인 경우
+     */
+    public PolicySyncJob submit(String trigger) {
+        PolicySyncJob job = new PolicySyncJob(trigger);
+        if (!current.compareAndSet(null, job)) {
+            PolicySyncJob running = current.get();
+            throw new PolicySyncAlreadyRunningException(running != null ? running.getId() : "unknown");
+        }
+        recentJobs.put(job.getId(), job);
+        executor.execute(() -> run(job));
+        log.info("Submitted policy sync job {} (trigger: {})", job.getId(), trigger);
+        return job;
+    }
+
+    public Optional<PolicySyncJob> find(String jobId) {
+        return Optional.ofNullable(recentJobs.get(jobId));
+    }
+
+    public Optional<PolicySyncJob> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * 작업 취소를 요청합니다.
+     * @return 작업이 있으면 true (이미 끝난 작업이면 아무 일도 하지 않음)
+     */
+    public boolean cancel(String jobId) {
+        PolicySyncJob job = recentJobs.get(jobId);
+        if (job == null) {
+            return false;
+        }
+        if (job.isActive()) {
+            job.getStats().requestCancel();
+            log.info("Cancellation requested for policy sync job {}", jobId);
+        }
+        return true;
+    }
+
+    private void run(PolicySyncJob job) {
+        Optional<SchedulerLockService.Lease> lease;
+        try {
+            lease = lockService.tryAcquire(LOCK_NAME, leaseDuration, () -> job.getStats().requestCancel());
+        } catch (RuntimeException e) {
+            log.error("Policy sync job {} could not acquire the lock", job.getId(), e);
+            job.markFinished(PolicySyncJob.State.FAILED, null, e.getMessage());
+            current.compareAndSet(job, null);
+            return;
+        }
+        if (lease.isEmpty()) {
+            log.info("Policy sync job {} skipped: another node is running the sync.", job.getId());
+            job.markFinished(PolicySyncJob.State.SKIPPED, null, "Another node holds the " + LOCK_NAME + " lock");
+            current.compareAndSet(job, null);
+            return;
+        }
+
+        job.markRunning();
+        try (SchedulerLockService.Lease ignored = lease.get()) {
+            PolicySyncRun run = policyUpdateService.updateAllPoliciesFromApi(job.getStats());
+            job.markFinished(PolicySyncJob.State.SUCCEEDED, run.getId(), null);
+        } catch (PolicySyncCancelledException e) {
+            log.info("Policy sync job {} cancelled: {}", job.getId(), e.getMessage());
+            job.markFinished(PolicySyncJob.State.CANCELLED, null, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Policy sync job {} failed", job.getId(), e);
+            job.markFinished(PolicySyncJob.State.FAILED, null, e.getMessage());
+        } finally {
+            current.compareAndSet(job, null);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        current().ifPresent(job -> job.getStats().requestCancel());
+        executor.shutdown();
+    }
+}
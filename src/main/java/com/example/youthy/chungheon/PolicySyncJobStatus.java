@@ -0,0 +1,41 @@
+package com.example.youthy.chungheon;
+
+import java.time.Instant;
+
+/**
+ * 관리자용 동기화 작업 상태 응답
+ * @param pagesDone 처리된 페이지 수
+ * @param totalPages 처리할 전체 페이지 수 (아직 모르면 null)
+ * @param rowsWritten insert/update/delete 된 행 수
+ * @param pagesPerSecond 지금까지의 페이지 처리 속도
+ * @param etaSeconds 남은 예상 시간(초) (아직 모르면 null)
+ */
+public record PolicySyncJobStatus(String jobId,
+                                  String trigger,
+                                  PolicySyncJob.State state,
+                                  Instant submittedAt,
+                                  Instant startedAt,
+                                  Instant finishedAt,
+                                  int pagesDone,
+                                  Integer totalPages,
+                                  int failedPages,
+                                  int items,
+                                  int filtered,
+                                  int rowsWritten,
+                                  double pagesPerSecond,
+                                  Long etaSeconds,
+                                  boolean cancelRequested,
+                                  Long runId,
+                                  String errorMessage) {
+
+    public static PolicySyncJobStatus from(PolicySyncJob job) {
+        PolicySyncStats stats = job.getStats();
+        int totalPages = stats.getTotalPages().get();
+        return new PolicySyncJobStatus(job.getId(), job.getTrigger(), job.getState(),
+                job.getSubmittedAt(), job.getStartedAt(), job.getFinishedAt(),
+                stats.getPages().get(), totalPages > 0 ? totalPages : null, stats.getFailedPages().get(),
+                stats.getItems().get(), stats.getFiltered().get(), stats.rowsWritten(),
+                stats.pagesPerSecond(), job.isActive() ? stats.etaSeconds() : null,
+                stats.isCancelRequested(), job.getRunId(), job.getErrorMessage());
+    }
+}
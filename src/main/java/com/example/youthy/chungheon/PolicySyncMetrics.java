@@ -0,0 +1,139 @@
+package com.example.youthy.chungheon;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 정책 수집 파이프라인의 Micrometer 지표
+ * actuator 의 /actuator/metrics 와 /actuator/prometheus(micrometer-registry-prometheus)로 볼 수 있습니다.
+ * 두 엔드포인트 모두 management.endpoints.web.exposure.include 에 넣어야 웹으로 노출됩니다. (기본값은 health 만 노출)
+ * - policy.sync.page.fetch: 페이지별 수집 지연 (스트리밍 모드에서는 파싱·변환 포함), outcome 태그
+ * - policy.sync.item.parse / policy.sync.item.map: 아이템별 JSON 파싱 시간 / 마감 판단 + toEntity 변환 시간
+ * - policy.sync.items.filtered / policy.sync.date.parse.failures: 마감으로 제외된 아이템 수 / 신청기간 파싱 실패 수
+ * - policy.sync.write.chunk, policy.sync.rows.written: 청크별 DB 쓰기 시간 / 쓴 행 수
+ * - policy.sync.run: 실행 전체 시간 (mode, outcome 태그)
+ * - policy.sync.last.rows-per-second / policy.sync.last-success.age: 마지막 실행의 쓰기 처리량 / 마지막 성공 후 경과 시간
+ */
+@Component
+public class PolicySyncMetrics {
+
+    private final MeterRegistry registry;
+    private final PolicySyncRunRepository runRepository;
+
+    private final Timer pageFetchSuccess;
+    private final Timer pageFetchFailure;
+    private final Timer itemParse;
+    private final Timer itemMap;
+    private final Timer chunkWrite;
+    private final Counter filtered;
+    private final Counter dateParseFailures;
+    private final Counter rowsWritten;
+
+    private final AtomicLong lastSuccessEpochMillis = new AtomicLong();
+    private volatile double lastRowsPerSecond;
+
+    public PolicySyncMetrics(MeterRegistry registry, PolicySyncRunRepository runRepository) {
+        this.registry = registry;
+        this.runRepository = runRepository;
+        this.pageFetchSuccess = pageFetchTimer("success");
+        this.pageFetchFailure = pageFetchTimer("failure");
+        this.itemParse = Timer.builder("policy.sync.item.parse")
+                .description("JSON parse time per policy item")
+                .register(registry);
+        this.itemMap = Timer.builder("policy.sync.item.map")
+                .description("Active check and toEntity mapping time per policy item")
+                .register(registry);
+        this.chunkWrite = Timer.builder("policy.sync.write.chunk")
+                .description("DB write time per chunk")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        this.filtered = Counter.builder("policy.sync.items.filtered")
+                .description("Policy items skipped because the application period has ended")
+                .register(registry);
+        this.dateParseFailures = Counter.builder("policy.sync.date.parse.failures")
+                .description("Policy items whose application period could not be parsed")
+                .register(registry);
+        this.rowsWritten = Counter.builder("policy.sync.rows.written")
+                .description("Policy rows inserted, updated or deleted")
+                .register(registry);
+        Gauge.builder("policy.sync.last.rows-per-second", this, metrics -> metrics.lastRowsPerSecond)
+                .description("DB write throughput of the last sync run")
+                .register(registry);
+        Gauge.builder("policy.sync.last-success.age", this, PolicySyncMetrics::secondsSinceLastSuccess)
+                .description("Time since the last successful sync run")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /**
+     * 재시작 후에도 "마지막 성공 후 경과 시간"이 이어지도록 실행 이력에서 마지막 성공 시각을 읽어 둡니다.
+     */
+    @PostConstruct
+    void loadLastSuccess() {
+        runRepository.findFirstByStatusOrderByFinishedAtDesc(PolicySyncRun.Status.SUCCEEDED)
+                .ifPresent(run -> lastSuccessEpochMillis.set(run.getFinishedAt().toEpochMilli()));
+    }
+
+    public void recordPageFetch(long nanos, boolean success) {
+        (success ? pageFetchSuccess : pageFetchFailure).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordParse(long nanos) {
+        itemParse.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordMap(long nanos) {
+        itemMap.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFiltered() {
+        filtered.increment();
+    }
+
+    public void recordDateParseFailure() {
+        dateParseFailures.increment();
+    }
+
+    public void recordChunkWrite(long nanos, int rows) {
+        chunkWrite.record(nanos, TimeUnit.NANOSECONDS);
+        rowsWritten.increment(rows);
+    }
+
+    /**
+     * 실행 한 건이 끝났음을 기록합니다.
+     */
+    public void recordRun(PolicySyncRun run) {
+        boolean success = run.getStatus() == PolicySyncRun.Status.SUCCEEDED;
+        Timer.builder("policy.sync.run")
+                .description("Duration of a policy sync run")
+                .tag("mode", run.getMode())
+                .tag("outcome", success ? "success" : "failure")
+                .register(registry)
+                .record(Duration.ofMillis(run.getDurationMillis()));
+        lastRowsPerSecond = run.getRowsPerSecond() != null ? run.getRowsPerSecond() : 0;
+        if (success) {
+            lastSuccessEpochMillis.set(run.getFinishedAt().toEpochMilli());
+        }
+    }
+
+    private double secondsSinceLastSuccess() {
+        long last = lastSuccessEpochMillis.get();
+        return last > 0 ? (System.currentTimeMillis() - last) / 1000.0 : Double.NaN;
+    }
+
+    private Timer pageFetchTimer(String outcome) {
+        return Timer.builder("policy.sync.page.fetch")
+                .description("Latency of fetching one policy page from the external API")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+}
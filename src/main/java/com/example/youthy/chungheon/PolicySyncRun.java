@@ -0,0 +1,99 @@
+package com.example.youthy.chungheon;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 정책 동기화 실행 이력
+ * 실행마다 한 행을 남겨 소요 시간·처리량 추이를 보고, 회귀가 생기면 알림을 걸 수 있도록 합니다.
+ */
+@Entity
+@Table(name = "policy_sync_run",
+        indexes = {
+                @Index(name = "idx_sync_run_started", columnList = "started_at"),
+                @Index(name = "idx_sync_run_status_finished", columnList = "status, finished_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PolicySyncRun {
+
+    public enum Status { RUNNING, SUCCEEDED, FAILED, CANCELLED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "mode", nullable = false, length = 20)
+    private String mode; // full, delta, shadow
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "duration_millis")
+    private Long durationMillis;
+
+    private int pages;           // 처리된 페이지 수
+    private int failedPages;     // 재시도 후에도 받지 못한 페이지 수
+    private int items;           // 수집된 정책 아이템 수
+    private int filtered;        // 마감되어 제외된 아이템 수
+    private int dateParseFailures; // 신청기간 파싱 실패 수
+    private int inserted;
+    private int updated;
+    private int deleted;
+
+    @Column(name = "write_millis")
+    private Long writeMillis;    // DB 쓰기에 쓴 시간 합계
+
+    @Column(name = "rows_per_second")
+    private Double rowsPerSecond; // DB 쓰기 처리량
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    public static PolicySyncRun start(String mode) {
+        PolicySyncRun run = new PolicySyncRun();
+        run.mode = mode;
+        run.status = Status.RUNNING;
+        run.startedAt = Instant.now();
+        return run;
+    }
+
+    /**
+     * 실행 결과를 기록합니다.
+     * @param error 실패한 경우 원인 예외 (성공이면 null)
+     */
+    public void finish(PolicySyncStats stats, Throwable error) {
+        this.finishedAt = Instant.now();
+        this.durationMillis = finishedAt.toEpochMilli() - startedAt.toEpochMilli();
+        if (error == null) {
+            this.status = Status.SUCCEEDED;
+        } else {
+            this.status = error instanceof PolicySyncCancelledException ? Status.CANCELLED : Status.FAILED;
+        }
+        this.pages = stats.getPages().get();
+        this.failedPages = stats.getFailedPages().get();
+        this.items = stats.getItems().get();
+        this.filtered = stats.getFiltered().get();
+        this.dateParseFailures = stats.getDateParseFailures().get();
+        this.inserted = stats.getInserted().get();
+        this.updated = stats.getUpdated().get();
+        this.deleted = stats.getDeleted().get();
+        this.writeMillis = stats.writeMillis();
+        this.rowsPerSecond = stats.rowsPerSecond();
+        if (error != null) {
+            String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+            this.errorMessage = message.length() > 1000 ? message.substring(0, 1000) : message;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.youthy.chungheon;
+
+import java.time.Instant;
+
+/**
+ * 관리자용 동기화 실행 이력 응답
+ */
+public record PolicySyncRunDto(Long id,
+                               String mode,
+                               PolicySyncRun.Status status,
+                               Instant startedAt,
+                               Instant finishedAt,
+                               Long durationMillis,
+                               int pages,
+                               int failedPages,
+                               int items,
+                               int filtered,
+                               int dateParseFailures,
+                               int inserted,
+                               int updated,
+                               int deleted,
+                               Long writeMillis,
+                               Double rowsPerSecond,
+                               String errorMessage) {
+
+    public static PolicySyncRunDto from(PolicySyncRun run) {
+        return new PolicySyncRunDto(run.getId(), run.getMode(), run.getStatus(), run.getStartedAt(), run.getFinishedAt(),
+                run.getDurationMillis(), run.getPages(), run.getFailedPages(), run.getItems(), run.getFiltered(),
+                run.getDateParseFailures(), run.getInserted(), run.getUpdated(), run.getDeleted(),
+                run.getWriteMillis(), run.getRowsPerSecond(), run.getErrorMessage());
+    }
+}
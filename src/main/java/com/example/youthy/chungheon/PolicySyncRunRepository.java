@@ -0,0 +1,13 @@
+package com.example.youthy.chungheon;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PolicySyncRunRepository extends JpaRepository<PolicySyncRun, Long> {
+    List<PolicySyncRun> findAllByOrderByStartedAtDesc(Pageable pageable);
+    Optional<PolicySyncRun> findFirstByStatusOrderByFinishedAtDesc(PolicySyncRun.Status status);
+    Optional<PolicySyncRun> findFirstByFinishedAtIsNotNullOrderByIdDesc(); // 카탈로그 버전 (마지막으로 끝난 실행)
+}
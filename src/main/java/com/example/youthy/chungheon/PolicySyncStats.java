@@ -0,0 +1,92 @@
+package com.example.youthy.chungheon;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 번의 동기화 실행 동안 쌓이는 집계 값 (진행 상황 조회와 취소 요청에도 사용)
+ * 변환(map)은 수집 워커 스레드에서, 쓰기는 호출 스레드에서, 진행 상황 조회는 요청 스레드에서 일어나므로 모두 원자적 타입을 사용합니다.
+ */
+@Getter
+public class PolicySyncStats {
+
+    private final long startedNanos = System.nanoTime();
+    private final AtomicInteger totalPages = new AtomicInteger();  // 처리할 전체 페이지 수 (0 이면 아직 모름)
+    private final AtomicInteger totalItems = new AtomicInteger();  // API가 알려준 전체 건수 (0 이면 아직 모름)
+    private final AtomicInteger pages = new AtomicInteger();
+    private final AtomicInteger failedPages = new AtomicInteger();
+    private final AtomicInteger items = new AtomicInteger();
+    private final AtomicInteger filtered = new AtomicInteger();
+    private final AtomicInteger dateParseFailures = new AtomicInteger();
+    private final AtomicInteger inserted = new AtomicInteger();
+    private final AtomicInteger updated = new AtomicInteger();
+    private final AtomicInteger deleted = new AtomicInteger();
+    private final AtomicLong writeNanos = new AtomicLong();
+    private volatile boolean cancelRequested;
+
+    public void recordTotal(int pageCount, int itemCount) {
+        totalPages.set(pageCount);
+        totalItems.set(itemCount);
+    }
+
+    public void recordPage(int itemCount) {
+        pages.incrementAndGet();
+        items.addAndGet(itemCount);
+    }
+
+    /**
+     * 취소를 요청합니다. 동기화는 다음 페이지를 처리하기 전에 이 값을 확인하고 중단합니다.
+     */
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public long elapsedMillis() {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+
+    public double pagesPerSecond() {
+        long elapsed = elapsedMillis();
+        return elapsed > 0 ? pages.get() * 1000.0 / elapsed : 0;
+    }
+
+    /**
+     * 지금까지의 페이지 처리 속도로 계산한 남은 시간(초), 전체 페이지 수나 속도를 아직 모르면 null
+     */
+    public Long etaSeconds() {
+        int total = totalPages.get();
+        double rate = pagesPerSecond();
+        if (total <= 0 || rate <= 0) {
+            return null;
+        }
+        return Math.round(Math.max(0, total - pages.get()) / rate);
+    }
+
+    public void recordFetch(PolicyPageFetcher.FetchResult result) {
+        pages.set(result.pages());
+        failedPages.set(result.failedPages());
+        items.set(result.items());
+    }
+
+    public void recordWrite(int insertedRows, int updatedRows, int deletedRows, long nanos) {
+        inserted.addAndGet(insertedRows);
+        updated.addAndGet(updatedRows);
+        deleted.addAndGet(deletedRows);
+        writeNanos.addAndGet(nanos);
+    }
+
+    public int rowsWritten() {
+        return inserted.get() + updated.get() + deleted.get();
+    }
+
+    public long writeMillis() {
+        return writeNanos.get() / 1_000_000;
+    }
+
+    public double rowsPerSecond() {
+        long nanos = writeNanos.get();
+        return nanos > 0 ? rowsWritten() * 1_000_000_000.0 / nanos : 0;
+    }
+}
@@ -1,17 +1,20 @@
 package com.example.youthy.chungheon;
 
 import com.example.youthy.YouthPolicy;
-import com.example.youthy.YouthPolicyRepository;
+import com.example.youthy.util.ApplicationPeriod;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -19,78 +22,254 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PolicyUpdateService {
 
-    private final ExternalPolicyApiClient apiClient;
-    private final YouthPolicyRepository youthPolicyRepository;
+    private final PolicyPageFetcher pageFetcher;
+    private final PolicyDeltaWriter deltaWriter;
+    private final PolicyBulkWriter bulkWriter;
+    private final PolicyShadowLoader shadowLoader;
+    private final PolicySyncRunRepository runRepository;
+    private final PolicySyncMetrics metrics;
+    private final PolicyCatalogVersion catalogVersion;
+
+    @Value("${policy.sync.page-size:100}")
+    private int pageSize; // API가 허용하는 최대 사이즈
+
+    @Value("${policy.sync.parallel.enabled:true}")
+    private boolean parallelEnabled; // 병렬 수집 모드 사용 여부
+
+    @Value("${policy.sync.delta.enabled:true}")
+    private boolean deltaEnabled; // 증분(내용 지문 비교) 동기화 모드 사용 여부
+
+    @Value("${policy.sync.shadow.enabled:false}")
+    private boolean shadowEnabled; // 스테이징 테이블 적재 후 한 번에 반영하는 모드 사용 여부 (delta 보다 우선)
+
+    @Value("${policy.sync.max-pages:0}")
+    private int maxPages; // 수집할 최대 페이지 수 (0 이면 제한 없음)
 
     /**
      * 외부 API로부터 모든 정책 데이터를 가져와 데이터베이스를 업데이트(저장)합니다.
-     * 이 메서드는 스케줄러를 통해 매일 새벽에 실행되도록 설정할 수 있습니다.
+     * 스케줄러와 관리자 요청 모두 PolicySyncJobManager 를 거쳐 한 번에 하나씩만 이 메서드를 호출합니다.
+     * 하나의 긴 트랜잭션 대신, 쓰기는 PolicyBulkWriter 가 청크 단위 트랜잭션으로 나누어 커밋합니다.
+     * 실행마다 policy_sync_run 에 이력을 남기고, 단계별 지표는 PolicySyncMetrics 로 기록합니다.
+     * @param stats 진행 상황을 기록할 객체 (취소 요청도 이 객체로 전달됨)
+     * @return 기록된 실행 이력
+     * @throws PolicySyncCancelledException 진행 중 취소가 요청된 경우
      */
-    @Transactional
-    @Scheduled(cron = "0 0 4 * * *") // 초 분 시 일 월 요일 > 새벽 4시에 DB 업데이트
-    public void updateAllPoliciesFromApi() {
-        log.info("Start updating policies from external API.");
-        int pageNum = 1;
-        final int pageSize = 100; // API가 허용하는 최대 사이즈
-        int totalUpdatedCount = 0;
-
-        while (true) {
-            List<ExternalPolicyDto.YouthPolicyItem> fetchedItems = apiClient.fetchPolicies(pageNum, pageSize);
-
-            if (fetchedItems.isEmpty()) {
-                log.info("No more policies to fetch. Exiting loop.");
-                break; // 더 이상 가져올 데이터가 없으면 중단
+    public PolicySyncRun updateAllPoliciesFromApi(PolicySyncStats stats) {
+        log.info("Start updating policies from external API. (parallel: {}, delta: {}, shadow: {})", parallelEnabled, deltaEnabled, shadowEnabled);
+        String mode = shadowEnabled ? "shadow" : deltaEnabled ? "delta" : "full";
+        PolicySyncRun run = runRepository.save(PolicySyncRun.start(mode));
+        try {
+            if (shadowEnabled) {
+                updateViaShadowTables(stats);
+            } else if (deltaEnabled) {
+                updateChangedPolicies(stats);
+            } else {
+                updateEveryPolicy(stats);
             }
+            finishRun(run, stats, null);
+            return run;
+        } catch (RuntimeException e) {
+            finishRun(run, stats, e);
+            throw e;
+        }
+    }
 
-            List<YouthPolicy> policiesToSave = fetchedItems.stream()
-                    .filter(this::isPolicyActive)
-                    .map(ExternalPolicyDto.YouthPolicyItem::toEntity)
+    /**
+     * 최근 동기화 실행 이력을 최신순으로 조회합니다.
+     * @param limit 최대 건수
+     */
+    public List<PolicySyncRun> findRecentRuns(int limit) {
+        return runRepository.findAllByOrderByStartedAtDesc(PageRequest.of(0, Math.max(1, Math.min(limit, 100))));
+    }
+
+    private void finishRun(PolicySyncRun run, PolicySyncStats stats, Throwable error) {
+        run.finish(stats, error);
+        runRepository.save(run);
+        metrics.recordRun(run);
+        catalogVersion.advanceTo(run.getId()); // 실패/취소된 실행도 일부 청크를 썼을 수 있으므로 버전을 올립니다.
+        log.info("Sync run {} {} in {} ms. ({} items, {} filtered, {} date parse failures, {} rows written, {} rows/sec)",
+                run.getId(), run.getStatus(), run.getDurationMillis(), run.getItems(), run.getFiltered(),
+                run.getDateParseFailures(), stats.rowsWritten(), String.format("%.0f", stats.rowsPerSecond()));
+    }
+
+    /**
+     * 전체 동기화: 마감되지 않은 모든 정책을 매번 저장합니다.
+     */
+    private void updateEveryPolicy(PolicySyncStats stats) {
+        AtomicInteger totalUpdatedCount = new AtomicInteger();
+
+        // 페이지는 수집 모드와 관계없이 페이지 번호 순서대로 이 핸들러에 전달됩니다.
+        PolicyPageFetcher.PageHandler<MappedPolicy> saveHandler = (pageNum, fetchedPolicies) -> {
+            List<YouthPolicy> policiesToSave = fetchedPolicies.stream()
+                    .filter(MappedPolicy::active)
+                    .map(MappedPolicy::entity)
                     .collect(Collectors.toList());
 
-            youthPolicyRepository.saveAll(policiesToSave); // 가져온 데이터를 DB에 저장
-            totalUpdatedCount += policiesToSave.size();
-            log.info("Saved {} policies from page {}.", policiesToSave.size(), pageNum);
+            long writeStart = System.nanoTime();
+            PolicyBulkWriter.WriteResult written = bulkWriter.write(policiesToSave, List.of()); // 가져온 데이터를 DB에 저장
+            stats.recordWrite(written.inserted(), written.updated(), written.deleted(), System.nanoTime() - writeStart);
+            totalUpdatedCount.addAndGet(policiesToSave.size());
+            log.info("Saved {} policies from page {}. ({} inserted, {} updated, {} rows/sec)", policiesToSave.size(), pageNum,
+                    written.inserted(), written.updated(), String.format("%.0f", written.rowsPerSecond()));
+        };
 
-            pageNum++;
-            if(pageNum==10)break;
-        }
-        log.info("Finished updating policies. Total {} policies updated.", totalUpdatedCount);
+        PolicyPageFetcher.FetchResult result = fetch(saveHandler, stats);
+        log.info("Finished updating policies. Total {} policies updated. ({} pages in {} ms, {} failed, {} pages/sec)",
+                totalUpdatedCount.get(), result.pages(), result.elapsedMillis(), result.failedPages(),
+                String.format("%.2f", result.pagesPerSecond()));
     }
+
     /**
-     * 정책이 마감되었는지 여부를 판단하는 헬퍼 메서드입니다.
-     * @param item 외부 API로부터 받은 정책 아이템
-     * @return 마감되지 않았으면 true, 마감되었으면 false
+     * 증분 동기화: 내용 지문이 달라진 정책만 insert/update/delete 합니다.
+     * 전체 페이지를 빠짐없이 수집한 경우에는 외부 API에서 사라진 정책도 삭제합니다.
      */
-    private boolean isPolicyActive(ExternalPolicyDto.YouthPolicyItem item) {
-        String endDateStr = item.getAplyYmd(); //ex.20250805 ~ 20250822\N20250301 ~ 20251231
-        endDateStr=endDateStr.trim().replace("\\N","\n");
-        // 종료일 정보가 없거나 공백이면, 일단 유효한 공고로 판단합니다. (정책에 따라 변경 가능)
-        if (!StringUtils.hasText(endDateStr)) {
-            return true;
+    private void updateChangedPolicies(PolicySyncStats stats) {
+        AtomicReference<PolicyDeltaWriter.DeltaResult> total = new AtomicReference<>(PolicyDeltaWriter.DeltaResult.EMPTY);
+        Set<String> seenPolicyNos = new HashSet<>();
+
+        PolicyPageFetcher.PageHandler<MappedPolicy> deltaHandler = (pageNum, fetchedPolicies) -> {
+            fetchedPolicies.forEach(policy -> seenPolicyNos.add(policy.policyNo()));
+
+            long writeStart = System.nanoTime();
+            PolicyDeltaWriter.DeltaResult page = deltaWriter.applyPage(fetchedPolicies);
+            stats.recordWrite(page.inserted(), page.updated(), page.deleted(), System.nanoTime() - writeStart);
+            total.accumulateAndGet(page, PolicyDeltaWriter.DeltaResult::plus);
+            log.info("Page {}: {} inserted, {} updated, {} deleted, {} unchanged.",
+                    pageNum, page.inserted(), page.updated(), page.deleted(), page.unchanged());
+        };
+
+        PolicyPageFetcher.FetchResult result = fetch(deltaHandler, stats);
+
+        checkCancelled(stats);
+        int purged = 0;
+        if (result.totalCount() != null && result.complete()) {
+            long purgeStart = System.nanoTime();
+            purged = deltaWriter.purgeMissing(seenPolicyNos);
+            stats.recordWrite(0, 0, purged, System.nanoTime() - purgeStart);
+        } else {
+            log.info("Skip purging missing policies: fetched {} of {} policies. ({} pages failed)",
+                    result.items(), result.totalCount(), result.failedPages());
         }
-        // 여러 기간이 줄바꿈(\n)으로 연결된 경우, 가장 마지막 기간을 사용합니다.
-        if (endDateStr.contains("\n")) {
-            String[] periods = endDateStr.split("\n");
-            endDateStr = periods[periods.length - 1].trim();
+
+        PolicyDeltaWriter.DeltaResult sum = total.get();
+        log.info("Finished delta update. {} inserted, {} updated, {} deleted, {} purged, {} unchanged. ({} pages in {} ms, {} pages/sec)",
+                sum.inserted(), sum.updated(), sum.deleted(), purged, sum.unchanged(),
+                result.pages(), result.elapsedMillis(), String.format("%.2f", result.pagesPerSecond()));
+    }
+
+    /**
+     * 섀도 동기화: 스테이징 테이블에 전체 카탈로그를 적재하고, 건수 검증 후 한 트랜잭션으로 운영 테이블에 반영합니다.
+     * 적재 도중에는 운영 테이블을 건드리지 않으므로 조회 API는 항상 마지막으로 반영된 카탈로그만 봅니다.
+     */
+    private void updateViaShadowTables(PolicySyncStats stats) {
+        shadowLoader.prepare();
+        Set<String> stagedPolicyNos = new HashSet<>();
+
+        PolicyPageFetcher.PageHandler<MappedPolicy> stagingHandler = (pageNum, fetchedPolicies) -> {
+            List<YouthPolicy> policiesToStage = fetchedPolicies.stream()
+                    .filter(MappedPolicy::active)
+                    .map(MappedPolicy::entity)
+                    .filter(policy -> stagedPolicyNos.add(policy.getPolicyNo())) // 페이지 간 중복 제거
+                    .collect(Collectors.toList());
+
+            long writeStart = System.nanoTime();
+            shadowLoader.load(policiesToStage);
+            stats.recordWrite(policiesToStage.size(), 0, 0, System.nanoTime() - writeStart);
+            log.info("Staged {} policies from page {}.", policiesToStage.size(), pageNum);
+        };
+
+        PolicyPageFetcher.FetchResult result = fetch(stagingHandler, stats);
+        if (!result.complete()) {
+            throw new IllegalStateException("Skip publishing staged policies: fetched " + result.items() + " of "
+                    + result.totalCount() + " policies. (" + result.failedPages() + " pages failed)");
         }
-        // "~" 문자가 포함되어 있다면, 종료일을 추출.
-        if (endDateStr.contains("~")) {
-            endDateStr = endDateStr.split("~")[1].trim();
+        checkCancelled(stats);
+
+        long publishStart = System.nanoTime();
+        PolicyShadowLoader.PublishResult published = shadowLoader.publish(stagedPolicyNos.size());
+        stats.recordWrite(0, 0, 0, System.nanoTime() - publishStart);
+        log.info("Finished shadow update. Published {} policies ({} inserted, {} updated, {} deleted, {} residences written) in {} ms. ({} pages in {} ms, {} pages/sec)",
+                published.policies(), published.inserted(), published.updated(), published.deleted(), published.residences(),
+                published.elapsedMillis(),
+                result.pages(), result.elapsedMillis(), String.format("%.2f", result.pagesPerSecond()));
+    }
+
+    /**
+     * 페이지를 수집해 handler 에 넘깁니다. 페이지마다 진행 상황을 기록하고, 취소가 요청되었으면 다음 페이지를 처리하기 전에 중단합니다.
+     */
+    private PolicyPageFetcher.FetchResult fetch(PolicyPageFetcher.PageHandler<MappedPolicy> handler, PolicySyncStats stats) {
+        Function<ExternalPolicyDto.YouthPolicyItem, MappedPolicy> mapper = this::map;
+        PolicyPageFetcher.PageHandler<MappedPolicy> tracking = new PolicyPageFetcher.PageHandler<>() {
+            @Override
+            public void handle(int pageNum, List<MappedPolicy> items) {
+                checkCancelled(stats);
+                handler.handle(pageNum, items);
+                recordMapped(items, stats);
+                stats.recordPage(items.size());
+            }
+
+            @Override
+            public void onTotal(int totalPages, int totalCount) {
+                stats.recordTotal(totalPages, totalCount);
+            }
+        };
+        PolicyPageFetcher.FetchResult result = parallelEnabled
+                ? pageFetcher.fetchParallel(pageSize, maxPages, mapper, tracking)
+                : pageFetcher.fetchSequential(pageSize, maxPages, mapper, tracking);
+        stats.recordFetch(result);
+        return result;
+    }
+
+    /**
+     * 처리된 페이지의 변환 결과(마감 제외, 신청기간 해석 실패)를 집계합니다.
+     * mapper 는 재시도할 때마다 다시 실행되므로 변환하면서 세면 재시도한 페이지가 여러 번 집계됩니다.
+     * 그래서 페이지를 끝까지 받아 handler 에 넘긴 뒤에 한 번만 셉니다.
+     */
+    private void recordMapped(List<MappedPolicy> items, PolicySyncStats stats) {
+        for (MappedPolicy policy : items) {
+            if (!policy.active()) {
+                stats.getFiltered().incrementAndGet();
+                metrics.recordFiltered();
+            }
+            if (policy.dateParseFailed()) {
+                stats.getDateParseFailures().incrementAndGet();
+                metrics.recordDateParseFailure();
+            }
         }
+    }
 
-        try {
-            // 'YYYYMMDD' 형식의 문자열을 LocalDate 객체로 변환합니다.
-            LocalDate endDate = LocalDate.parse(endDateStr.trim(), DateTimeFormatter.ofPattern("yyyyMMdd"));
+    private static void checkCancelled(PolicySyncStats stats) {
+        if (stats.isCancelRequested()) {
+            throw new PolicySyncCancelledException(stats.getPages().get());
+        }
+    }
 
-            // 오늘 날짜를 가져옵니다.
-            LocalDate today = LocalDate.now();
+    /**
+     * 외부 API 아이템 하나를 마감 여부 판단 + 엔티티 변환까지 마친 형태로 바꿉니다.
+     * 수집 워커 스레드에서 호출되므로 DB에 접근하지 않아야 하고, 재시도 시 다시 호출되므로 집계도 하지 않습니다. (recordMapped 참고)
+     */
+    private MappedPolicy map(ExternalPolicyDto.YouthPolicyItem item) {
+        long start = System.nanoTime();
+        String contentHash = item.contentHash();
+        ApplicationPeriod period = ApplicationPeriod.parse(item.getAplyYmd()); // 신청기간은 여기서 한 번만 해석합니다.
+        YouthPolicy entity = isPolicyActive(item, period) ? item.toEntity(contentHash, period) : null;
+        metrics.recordMap(System.nanoTime() - start);
+        return new MappedPolicy(item.getPlcyNo(), contentHash, entity, period.parseFailed());
+    }
 
-            // 종료일이 오늘이거나 오늘보다 이후인지 확인합니다. (즉, 아직 마감되지 않았는지)
-            return !endDate.isBefore(today);
-        } catch (Exception e) {
-            log.warn("정책신청 마감일 파싱에러. [{}]: '{}'", item.getPlcyNo(), endDateStr);
+    /**
+     * 정책이 마감되었는지 여부를 판단하는 헬퍼 메서드입니다.
+     * @param item 외부 API로부터 받은 정책 아이템
+     * @param period item 의 신청기간 해석 결과
+     * @return 마감되지 않았으면 true, 마감되었으면 false
+     */
+    private boolean isPolicyActive(ExternalPolicyDto.YouthPolicyItem item, ApplicationPeriod period) {
+        if (period.parseFailed()) {
+            log.warn("정책신청 마감일 파싱에러. [{}]: '{}'", item.getPlcyNo(), item.getAplyYmd());
             return true; // 날짜 형식이 이상할 경우, 일단 유효한 것으로 간주하여 DB에 저장 (추후 확인 필요)
         }
+        // 종료일이 오늘이거나 오늘보다 이후인지 확인합니다. (즉, 아직 마감되지 않았는지)
+        return period.isOpenOn(LocalDate.now());
     }
 
 }
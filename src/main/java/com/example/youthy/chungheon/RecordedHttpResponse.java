@@ -0,0 +1,51 @@
+package com.example.youthy.chungheon;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * 메모리에 올려 둔 응답 본문으로 만든 ClientHttpResponse 입니다.
+ * 녹화(본문을 파일로 남긴 뒤 다시 읽기)와 재생(파일에서 읽은 본문 돌려주기)에서 함께 사용합니다.
+ */
+class RecordedHttpResponse implements ClientHttpResponse {
+
+    private final HttpStatusCode statusCode;
+    private final String statusText;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    RecordedHttpResponse(HttpStatusCode statusCode, String statusText, HttpHeaders headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusText = statusText;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public String getStatusText() {
+        return statusText;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.youthy.chungheon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 외부 청년정책 API 호출을 재시도(지수 백오프 + 지터)와 서킷 브레이커로 감싸는 실행기입니다.
+ * - 재시도 대상: 연결/읽기 타임아웃 등 I/O 오류, 요청 전체 기한 초과, 5xx, 429
+ * - 그 외 4xx 와 호출 쪽에서 재시도 대상이 아니라고 표시한 실패(예: 응답 본문이 올바른 JSON 이 아님)는 다시 시도해도 같은 결과이므로 바로 실패시킵니다.
+ */
+@Slf4j
+@Component
+public class ResilientApiExecutor {
+
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final CircuitBreaker circuitBreaker;
+
+    public ResilientApiExecutor(@Value("${youth-center.api.retry.max-attempts:3}") int maxAttempts,
+                                @Value("${youth-center.api.retry.base-backoff-ms:500}") long baseBackoffMillis,
+                                @Value("${youth-center.api.retry.max-backoff-ms:5000}") long maxBackoffMillis,
+                                @Value("${youth-center.api.circuit.failure-threshold:5}") int failureThreshold,
+                                @Value("${youth-center.api.circuit.open-ms:30000}") long openMillis) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis);
+    }
+
+    /**
+     * 호출을 실행하고, 일시적 실패면 백오프 후 다시 시도합니다.
+     * @param operation 로그/예외 메시지에 쓸 호출 이름 (예: "page 3")
+     * @param call 외부 API 호출
+     * @return 호출 결과
+     * @throws CircuitOpenException 서킷 브레이커가 열려 있는 경우
+     * @throws ExternalApiException 재시도 후에도 실패했거나 재시도 대상이 아닌 실패인 경우
+     */
+    public <T> T execute(String operation, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.allowRequest()) {
+                throw new CircuitOpenException(operation);
+            }
+            try {
+                T result = call.get();
+                circuitBreaker.recordSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                boolean transientFailure = isTransient(e);
+                if (transientFailure) {
+                    circuitBreaker.recordFailure();
+                } else {
+                    circuitBreaker.recordSuccess(); // 서버는 응답했으므로 서킷 판단에서는 성공으로 봅니다.
+                }
+                if (!transientFailure || attempt >= maxAttempts) {
+                    throw new ExternalApiException(operation + " failed after " + attempt + " attempt(s): " + e.getMessage(), e, transientFailure);
+                }
+                long backoff = backoffMillis(attempt);
+                log.warn("{} failed (attempt {}/{}): {}. Retrying in {} ms.", operation, attempt, maxAttempts, e.getMessage(), backoff);
+                sleep(operation, backoff);
+            }
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests
+                || deadlineExceeded(e);
+    }
+
+    /**
+     * 메시지 컨버터로 본문을 읽다가 기한을 넘기면 ResourceAccessException 이 아닌 RestClientException 으로 감싸지므로 원인을 따라가 확인합니다.
+     */
+    private static boolean deadlineExceeded(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PolicyApiDeadlineInterceptor.DeadlineExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 지수 백오프 상한의 절반~전체 범위에서 무작위로 고릅니다. (여러 워커가 동시에 재시도하지 않도록)
+     */
+    private long backoffMillis(int attempt) {
+        long cap = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(cap / 2, cap + 1);
+    }
+
+    private static void sleep(String operation, long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException(operation + " interrupted while waiting to retry", e, true);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.youthy.chungheon2;
+
+import java.util.Set;
+
+/**
+ * 자격 조건 조회에 쓰는 사용자 조건 (값이 없는 항목은 조건으로 쓰지 않습니다)
+ * @param age 나이
+ * @param zipCode 거주지역 우편번호(법정동 시군구 코드 5자리)
+ * @param education 학력 코드 (예: 0049007 대학 졸업)
+ * @param employment 취업상태 코드 (예: 0013003 미취업자)
+ * @param specialized 해당하는 특화 요건 코드들 (예: 0014001 중소기업)
+ * @param categories 관심 정책 분야 (없으면 전체)
+ * @param openOnly true 이면 아직 마감되지 않은 정책만
+ */
+public record EligibilityProfile(Integer age, String zipCode, String education, String employment,
+                                 Set<String> specialized, Set<String> categories, boolean openOnly) {
+
+    public EligibilityProfile {
+        specialized = specialized == null ? Set.of() : Set.copyOf(specialized);
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.youthy.chungheon2;
+
+import com.example.youthy.PolicyListRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션의 위치 (마지막으로 내려준 행의 정렬 키 + policyNo)
+ * 클라이언트에는 Base64URL 로 인코딩한 불투명 토큰으로만 전달하며, 내용 형식은 바뀔 수 있습니다.
+ * @param order 정렬 기준 (토큰에 포함되므로 다음 요청은 같은 정렬을 이어갑니다)
+ * @param key 마지막 행의 정렬 키 값 (DEADLINE 에서 빈 문자열이면 마감일 없는 구간)
+ * @param policyNo 마지막 행의 정책번호
+ */
+public record PolicyCursor(PolicyScrollOrder order, String key, String policyNo) {
+
+    private static final String VERSION = "v1";
+
+    public static PolicyCursor after(PolicyScrollOrder order, PolicyListRow last) {
+        return new PolicyCursor(order, order.keyOf(last), last.policyNo());
+    }
+
+    public String encode() {
+        // 정책 이름에 구분자가 들어 있어도 되도록 key 를 마지막에 둡니다.
+        String raw = String.join("\n", VERSION, order.name(), policyNo, key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 토큰인 경우
+     */
+    public static PolicyCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\n", 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            PolicyCursor cursor = new PolicyCursor(PolicyScrollOrder.valueOf(parts[1]), parts[3], parts[2]);
+            if (!cursor.inUndatedSection()) {
+                cursor.order().after(cursor); // 정렬 키 형식 검증 (날짜)
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * DEADLINE 정렬에서 마감일이 있는 구간을 다 내려주고 마감일 없는 구간으로 넘어왔는지 여부
+     */
+    boolean inUndatedSection() {
+        return order == PolicyScrollOrder.DEADLINE && key.isEmpty();
+    }
+}
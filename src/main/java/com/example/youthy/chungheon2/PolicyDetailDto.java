@@ -0,0 +1,77 @@
+package com.example.youthy.chungheon2;
+
+import com.example.youthy.PolicyResidence;
+import com.example.youthy.YouthPolicy;
+import com.example.youthy.util.ApplicationPeriod;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 정책 상세 조회 시 반환될 응답 DTO
+ */
+@Getter
+public class PolicyDetailDto {
+
+    private final String policyNo;                  // 정책번호
+    private final String policyName;                // 정책이름
+    private final String category;                  // 카테고리 (정책분야)
+    private final String policySummary;             // 정책설명
+    private final String supportContent;            // 지원내용
+    private final String operationPeriod;           // 사업 운영 기간
+    private final String applicationPeriod;         // 사업 신청 기간 (원문)
+    private final LocalDate applicationStartDate;   // 신청 시작일
+    private final LocalDate applicationEndDate;     // 신청 마감일
+    private final boolean alwaysOpen;               // 상시 모집 여부
+    private final String dDay;                      // D-Day 정보
+    private final String supportScale;              // 지원 규모
+    private final Integer minAge;                   // 지원 연령 (최소)
+    private final Integer maxAge;                   // 지원 연령 (최대)
+    private final String incomeCondition;           // 소득 조건
+    private final String educationRequirement;      // 학력 요건
+    private final String majorRequirement;          // 전공 요건
+    private final String employmentStatus;          // 취업상태 요건
+    private final String specializedField;          // 특화분야
+    private final String additionalInfo;            // 추가사항
+    private final String participationRestriction;  // 참여제한 대상
+    private final String applicationProcess;        // 신청절차
+    private final String evaluationAndAnnouncement; // 심사 및 발표
+    private final String applicationSite;           // 신청 사이트
+    private final String requiredDocuments;         // 제출 서류
+    private final long viewCount;                   // 조회수 (아직 DB에 반영되지 않은 조회 포함)
+    private final List<String> zipCodes;            // 거주지역 우편번호 목록
+
+    public PolicyDetailDto(YouthPolicy entity, long viewCount) {
+        this.policyNo = entity.getPolicyNo();
+        this.policyName = entity.getPolicyName();
+        this.category = entity.getPolicyField();
+        this.policySummary = entity.getPolicySummary();
+        this.supportContent = entity.getSupportContent();
+        this.operationPeriod = entity.getOperationPeriod();
+        this.applicationPeriod = entity.getApplicationPeriod();
+        this.applicationStartDate = entity.getApplicationStartDate();
+        this.applicationEndDate = entity.getApplicationEndDate();
+        this.alwaysOpen = entity.isAlwaysOpen();
+        this.dDay = ApplicationPeriod.dDay(entity.getApplicationEndDate(), entity.isAlwaysOpen(), LocalDate.now());
+        this.supportScale = entity.getSupportScale();
+        this.minAge = entity.getMinAge();
+        this.maxAge = entity.getMaxAge();
+        this.incomeCondition = entity.getIncomeCondition();
+        this.educationRequirement = entity.getEducationRequirement();
+        this.majorRequirement = entity.getMajorRequirement();
+        this.employmentStatus = entity.getEmploymentStatus();
+        this.specializedField = entity.getSpecializedField();
+        this.additionalInfo = entity.getAdditionalInfo();
+        this.participationRestriction = entity.getParticipationRestriction();
+        this.applicationProcess = entity.getApplicationProcess();
+        this.evaluationAndAnnouncement = entity.getEvaluationAndAnnouncement();
+        this.applicationSite = entity.getApplicationSite();
+        this.requiredDocuments = entity.getRequiredDocuments();
+        this.viewCount = viewCount;
+        this.zipCodes = entity.getResidences().stream()
+                .map(PolicyResidence::getZipCode)
+                .sorted()
+                .toList();
+    }
+}
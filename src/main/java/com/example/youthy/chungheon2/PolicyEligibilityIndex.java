@@ -0,0 +1,290 @@
+package com.example.youthy.chungheon2;
+
+import com.example.youthy.PolicyEligibilityRow;
+import com.example.youthy.PolicyListRow;
+import com.example.youthy.YouthPolicyRepository;
+import com.example.youthy.chungheon.PolicyCatalogChangedEvent;
+import com.example.youthy.util.RegionCodes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * "내가 받을 수 있는 정책" 조회용 인메모리 자격 조건 색인
+ * 정책마다 번호(docId)를 붙이고, 조건 값별로 해당 정책들의 BitSet 을 미리 만들어 둡니다.
+ * 사용자 조건 조회는 DB를 거치지 않고 BitSet 교집합(AND)만으로 끝나므로 홈 화면을 열 때마다 호출해도 됩니다.
+ * - 나이: 나이(0~100세)별 BitSet (연령 제한이 없으면 모든 나이에 포함)
+ * - 거주지역/학력/취업상태/특화 요건: 코드별 BitSet + 제한 없는 정책 BitSet
+ *   (거주지역은 사용자의 시군구 코드와 상위 시도 전체 코드, 전국 코드의 BitSet 을 합칩니다)
+ * - 정책 분야: 분야별 BitSet
+ * docId 는 마감일이 가까운 순(상시/마감일 미상은 뒤)으로 붙이므로, 결과를 docId 순으로 읽으면 그대로 마감 임박순이 되고
+ * 이미 마감된 정책은 앞쪽 구간을 잘라내는 것으로 제외됩니다.
+ * 카탈로그가 바뀌면(PolicyCatalogChangedEvent) 자격 요건 컬럼만 다시 읽어 새 색인으로 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyEligibilityIndex {
+
+    // 온통청년 API 코드 중 "제한없음"
+    static final String EDUCATION_ANY = "0049010";
+    static final String EMPLOYMENT_ANY = "0013010";
+    static final String SPECIALIZED_ANY = "0014010";
+
+    private static final int MAX_AGE = 100;
+
+    private final YouthPolicyRepository youthPolicyRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 코드형 조건 하나의 색인
+     * @param byCode 코드별로 그 코드를 요건에 포함한 정책들
+     * @param unrestricted 요건이 없는 정책들
+     */
+    private record Attribute(Map<String, BitSet> byCode, BitSet unrestricted) {
+
+        /**
+         * 주어진 코드 중 하나라도 요건에 포함하거나 요건이 없는 정책들
+         */
+        BitSet matching(Collection<String> codes) {
+            BitSet bits = (BitSet) unrestricted.clone();
+            for (String code : codes) {
+                BitSet byThisCode = byCode.get(code);
+                if (byThisCode != null) {
+                    bits.or(byThisCode);
+                }
+            }
+            return bits;
+        }
+    }
+
+    private record Snapshot(PolicyListRow[] rows, LocalDate[] endDates, BitSet all, BitSet[] byAge,
+                            Attribute region, Attribute education, Attribute employment, Attribute specialized,
+                            Map<String, BitSet> byCategory) {
+
+        static final Snapshot EMPTY = new Snapshot(new PolicyListRow[0], new LocalDate[0], new BitSet(), emptyAges(),
+                new Attribute(Map.of(), new BitSet()), new Attribute(Map.of(), new BitSet()),
+                new Attribute(Map.of(), new BitSet()), new Attribute(Map.of(), new BitSet()), Map.of());
+
+        private static BitSet[] emptyAges() {
+            BitSet[] byAge = new BitSet[MAX_AGE + 1];
+            for (int age = 0; age <= MAX_AGE; age++) {
+                byAge[age] = new BitSet();
+            }
+            return byAge;
+        }
+
+        /**
+         * 오늘 기준으로 아직 마감되지 않은 첫 docId (docId 는 마감일 오름차순, 마감일 없음은 맨 뒤)
+         */
+        int firstOpen(LocalDate today) {
+            int low = 0;
+            int high = endDates.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (endDates[mid] != null && endDates[mid].isBefore(today)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshQuietly();
+    }
+
+    @EventListener
+    public void onCatalogChanged(PolicyCatalogChangedEvent event) {
+        refreshQuietly();
+    }
+
+    public int size() {
+        return snapshot.rows().length;
+    }
+
+    /**
+     * 사용자 조건에 맞는 정책을 찾습니다.
+     * @param profile 사용자 조건
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 조건에 맞는 정책 수, 분야별 수, 현재 페이지 목록
+     */
+    public PolicyEligibilityResponse match(EligibilityProfile profile, int page, int size) {
+        Snapshot current = snapshot;
+        BitSet result = (BitSet) current.all().clone();
+        if (profile.age() != null) {
+            result.and(current.byAge()[Math.max(0, Math.min(profile.age(), MAX_AGE))]);
+        }
+        if (StringUtils.hasText(profile.zipCode())) {
+            result.and(current.region().matching(RegionCodes.scopesFor(profile.zipCode().trim())));
+        }
+        if (StringUtils.hasText(profile.education())) {
+            result.and(current.education().matching(Set.of(profile.education().trim())));
+        }
+        if (StringUtils.hasText(profile.employment())) {
+            result.and(current.employment().matching(Set.of(profile.employment().trim())));
+        }
+        if (!profile.specialized().isEmpty()) {
+            result.and(current.specialized().matching(profile.specialized()));
+        }
+        if (profile.openOnly()) {
+            result.clear(0, current.firstOpen(LocalDate.now()));
+        }
+
+        Map<String, Integer> countsByCategory = new TreeMap<>();
+        current.byCategory().forEach((category, bits) -> {
+            BitSet inCategory = (BitSet) result.clone();
+            inCategory.and(bits);
+            if (!inCategory.isEmpty()) {
+                countsByCategory.put(category, inCategory.cardinality());
+            }
+        });
+        if (!profile.categories().isEmpty()) {
+            BitSet categories = new BitSet();
+            profile.categories().stream()
+                    .map(current.byCategory()::get)
+                    .filter(Objects::nonNull)
+                    .forEach(categories::or);
+            result.and(categories);
+        }
+
+        List<PolicyCategoryDto> content = new ArrayList<>(size);
+        int skip = page * size;
+        for (int docId = result.nextSetBit(0); docId >= 0 && content.size() < size; docId = result.nextSetBit(docId + 1)) {
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            content.add(new PolicyCategoryDto(current.rows()[docId]));
+        }
+        return new PolicyEligibilityResponse(result.cardinality(), countsByCategory, content, page, size);
+    }
+
+    /**
+     * 자격 요건 컬럼과 거주지역을 다시 읽어 색인을 새로 만들고 교체합니다.
+     */
+    public synchronized void refresh() {
+        long started = System.nanoTime();
+        List<PolicyEligibilityRow> rows = new ArrayList<>(youthPolicyRepository.findAllEligibilityRows());
+        rows.sort(Comparator.comparing(PolicyEligibilityRow::applicationEndDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(PolicyEligibilityRow::policyNo));
+
+        int n = rows.size();
+        Map<String, Integer> docIds = new HashMap<>(n * 2);
+        PolicyListRow[] listRows = new PolicyListRow[n];
+        LocalDate[] endDates = new LocalDate[n];
+        BitSet all = new BitSet(n);
+        BitSet[] byAge = Snapshot.emptyAges();
+        AttributeBuilder education = new AttributeBuilder(EDUCATION_ANY);
+        AttributeBuilder employment = new AttributeBuilder(EMPLOYMENT_ANY);
+        AttributeBuilder specialized = new AttributeBuilder(SPECIALIZED_ANY);
+        Map<String, BitSet> byCategory = new LinkedHashMap<>();
+
+        for (int docId = 0; docId < n; docId++) {
+            PolicyEligibilityRow row = rows.get(docId);
+            docIds.put(row.policyNo(), docId);
+            listRows[docId] = row.toListRow();
+            endDates[docId] = row.applicationEndDate();
+            all.set(docId);
+
+            int minAge = row.minAge() == null || row.minAge() <= 0 ? 0 : Math.min(row.minAge(), MAX_AGE);
+            int maxAge = row.maxAge() == null || row.maxAge() <= 0 ? MAX_AGE : Math.min(row.maxAge(), MAX_AGE);
+            if (maxAge < minAge) { // 잘못된 데이터는 제한 없음으로 봅니다.
+                minAge = 0;
+                maxAge = MAX_AGE;
+            }
+            for (int age = minAge; age <= maxAge; age++) {
+                byAge[age].set(docId);
+            }
+
+            education.add(docId, row.educationRequirement());
+            employment.add(docId, row.employmentStatus());
+            specialized.add(docId, row.specializedField());
+            if (StringUtils.hasText(row.policyField())) {
+                byCategory.computeIfAbsent(row.policyField(), key -> new BitSet(n)).set(docId);
+            }
+        }
+
+        // 거주지역: 코드가 하나도 없는 정책은 지역 제한이 없는 것으로 봅니다. (전국 코드 "00000" 은 byZip 에 들어감)
+        Map<String, BitSet> byZip = new HashMap<>();
+        BitSet regionRestricted = new BitSet(n);
+        youthPolicyRepository.findAllResidences().forEach(residence -> {
+            Integer docId = docIds.get(residence.getPolicyNo());
+            if (docId == null || !StringUtils.hasText(residence.getZipCode())) {
+                return;
+            }
+            byZip.computeIfAbsent(residence.getZipCode().trim(), key -> new BitSet(n)).set(docId);
+            regionRestricted.set(docId);
+        });
+        BitSet regionUnrestricted = (BitSet) all.clone();
+        regionUnrestricted.andNot(regionRestricted);
+
+        snapshot = new Snapshot(listRows, endDates, all, byAge, new Attribute(byZip, regionUnrestricted),
+                education.build(), employment.build(), specialized.build(), byCategory);
+        log.info("Policy eligibility index rebuilt: {} policies, {} zip codes in {} ms",
+                n, byZip.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild the policy eligibility index; keeping the previous snapshot.", e);
+        }
+    }
+
+    /**
+     * 쉼표로 구분된 요건 코드 목록으로 Attribute 를 만듭니다. (비어 있거나 "제한없음" 코드를 포함하면 제한 없음)
+     */
+    private static final class AttributeBuilder {
+
+        private final String anyCode;
+        private final Map<String, BitSet> byCode = new HashMap<>();
+        private final BitSet unrestricted = new BitSet();
+
+        private AttributeBuilder(String anyCode) {
+            this.anyCode = anyCode;
+        }
+
+        void add(int docId, String codes) {
+            List<String> parsed = new ArrayList<>();
+            if (StringUtils.hasText(codes)) {
+                for (String code : codes.split(",")) {
+                    if (StringUtils.hasText(code)) {
+                        parsed.add(code.trim());
+                    }
+                }
+            }
+            if (parsed.isEmpty() || parsed.contains(anyCode)) {
+                unrestricted.set(docId);
+                return;
+            }
+            parsed.forEach(code -> byCode.computeIfAbsent(code, key -> new BitSet()).set(docId));
+        }
+
+        Attribute build() {
+            return new Attribute(byCode, unrestricted);
+        }
+    }
+}
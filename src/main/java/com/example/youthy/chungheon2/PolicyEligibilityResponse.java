@@ -0,0 +1,16 @@
+package com.example.youthy.chungheon2;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자격 조건 조회 응답
+ * @param total 조건에 맞는 정책 수 (분야 필터 적용 후)
+ * @param countsByCategory 분야 필터를 적용하기 전, 분야별로 조건에 맞는 정책 수 (탭 배지용)
+ * @param content 현재 페이지의 정책 목록 (마감일이 가까운 순, 상시/마감일 미상은 뒤)
+ * @param page 페이지 번호 (0부터)
+ * @param size 페이지 크기
+ */
+public record PolicyEligibilityResponse(int total, Map<String, Integer> countsByCategory,
+                                        List<PolicyCategoryDto> content, int page, int size) {
+}
@@ -0,0 +1,263 @@
+package com.example.youthy.chungheon2;
+
+import com.example.youthy.PolicyListRow;
+import com.example.youthy.YouthPolicyRepository;
+import com.example.youthy.chungheon.PolicyCatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 홈 화면 피드("요즘 많이 보는 정책", "마감 임박 정책")용 인메모리 색인
+ * 두 피드 모두 요청마다 전체 정책을 정렬하지 않고, 미리 유지해 둔 구조에서 앞쪽 몇 건만 꺼냅니다.
+ * - 인기: 조회 이벤트마다 forward decay 점수를 더합니다. 조회 시각 t 의 가중치를 exp((t - 기준시각) / tau) 로 주면
+ *   지난 점수를 시간에 따라 깎는 작업 없이도 최근 조회가 오래된 조회보다 무겁게 반영됩니다. (반감기 policy.feed.popular-half-life-hours)
+ *   상위 K 개는 policy.feed.popular-refresh-ms 마다 크기 K 의 최소 힙으로 다시 골라 두고, 최근 조회가 모자라면 누적 조회수 순으로 채웁니다.
+ *   기준시각은 날짜가 바뀔 때와 카탈로그가 바뀔 때 현재 시각으로 옮기고 점수를 그만큼 줄여, 가중치가 커지지 않게 합니다.
+ * - 마감 임박: 마감일별 TreeMap 에서 오늘 ~ 오늘+days 범위만 읽습니다. 날짜가 바뀌면 지난 마감일을 잘라냅니다.
+ * 정책 목록은 카탈로그가 바뀔 때(PolicyCatalogChangedEvent) 마감되지 않은 정책의 목록 컬럼만 다시 읽어 교체합니다.
+ * 인기 점수는 서버마다 자기가 받은 조회만 반영하며, 재시작하면 누적 조회수 순부터 다시 시작합니다.
+ */
+@Slf4j
+@Component
+public class PolicyFeedIndex {
+
+    private static final double MIN_SCORE = 1e-3; // 기준시각을 옮길 때 이보다 작아진 점수는 버림
+
+    private final YouthPolicyRepository youthPolicyRepository;
+    private final PolicyViewCounter viewCounter;
+    private final int maxSize;
+    private final double tauMillis;
+
+    private volatile Catalog catalog = Catalog.EMPTY;
+    private volatile Popularity popularity = new Popularity(System.currentTimeMillis(), new ConcurrentHashMap<>());
+    private volatile List<String> popular = List.of();
+
+    /**
+     * 피드에 쓰는 정책 목록 사본
+     * @param rows 마감되지 않은 정책 (정책번호별)
+     * @param byDeadline 마감일별 정책 (마감일 오름차순, 같은 날은 정책번호 순)
+     * @param day 만든 날짜
+     */
+    private record Catalog(Map<String, PolicyListRow> rows, NavigableMap<LocalDate, List<PolicyListRow>> byDeadline, LocalDate day) {
+
+        static final Catalog EMPTY = new Catalog(Map.of(), new TreeMap<>(), LocalDate.MIN);
+    }
+
+    /**
+     * 인기 점수 (forward decay)
+     * @param landmarkMillis 기준시각 (가중치 1 인 시각)
+     * @param scores 정책별 점수 합
+     */
+    private record Popularity(long landmarkMillis, ConcurrentHashMap<String, DoubleAdder> scores) {
+    }
+
+    public PolicyFeedIndex(YouthPolicyRepository youthPolicyRepository,
+                           PolicyViewCounter viewCounter,
+                           @Value("${policy.feed.max-size:50}") int maxSize,
+                           @Value("${policy.feed.popular-half-life-hours:72}") long halfLifeHours) {
+        this.youthPolicyRepository = youthPolicyRepository;
+        this.viewCounter = viewCounter;
+        this.maxSize = maxSize;
+        this.tauMillis = Duration.ofHours(halfLifeHours).toMillis() / Math.log(2);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshQuietly();
+    }
+
+    @EventListener
+    public void onCatalogChanged(PolicyCatalogChangedEvent event) {
+        refreshQuietly();
+    }
+
+    /**
+     * 정책 조회 1회를 인기 점수에 반영합니다. (DB 접근 없음)
+     */
+    public void recordView(String policyNo) {
+        Popularity current = popularity;
+        double weight = Math.exp((System.currentTimeMillis() - current.landmarkMillis()) / tauMillis);
+        current.scores().computeIfAbsent(policyNo, key -> new DoubleAdder()).add(weight);
+    }
+
+    /**
+     * 요즘 많이 보는 정책 (마감되지 않은 정책만)
+     * @param size 최대 개수 (policy.feed.max-size 까지)
+     */
+    public List<PolicyCategoryDto> popular(int size) {
+        Catalog current = currentCatalog();
+        int limit = Math.max(1, Math.min(size, maxSize));
+        List<PolicyCategoryDto> result = new ArrayList<>(limit);
+        for (String policyNo : popular) {
+            PolicyListRow row = current.rows().get(policyNo);
+            if (row != null) { // 카탈로그에는 오늘 기준으로 마감되지 않은 정책만 있음
+                result.add(new PolicyCategoryDto(row));
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 오늘부터 days 일 안에 마감되는 정책 (마감일이 가까운 순)
+     * @param days 기간(일)
+     * @param size 최대 개수 (policy.feed.max-size 까지)
+     */
+    public List<PolicyCategoryDto> closingSoon(int days, int size) {
+        Catalog current = currentCatalog();
+        int limit = Math.max(1, Math.min(size, maxSize));
+        LocalDate today = current.day();
+        List<PolicyCategoryDto> result = new ArrayList<>(limit);
+        for (List<PolicyListRow> rows : current.byDeadline().subMap(today, true, today.plusDays(Math.max(0, days)), true).values()) {
+            for (PolicyListRow row : rows) {
+                result.add(new PolicyCategoryDto(row));
+                if (result.size() == limit) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 마감되지 않은 정책 목록을 다시 읽어 교체하고, 인기 점수의 기준시각을 옮깁니다.
+     */
+    public synchronized void refresh() {
+        long started = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        List<PolicyListRow> rows = youthPolicyRepository.findAllOpenListRows(today);
+        Map<String, PolicyListRow> byPolicyNo = new HashMap<>(rows.size() * 2);
+        rows.forEach(row -> byPolicyNo.put(row.policyNo(), row));
+        catalog = build(byPolicyNo, today);
+        rebase();
+        rankPopular();
+        log.info("Policy feed index rebuilt: {} open policies, {} with deadlines in {} ms",
+                rows.size(), catalog.byDeadline().values().stream().mapToInt(List::size).sum(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 날짜가 바뀌면 지난 마감일의 정책을 잘라냅니다. (DB 조회 없음)
+     */
+    @Scheduled(cron = "${policy.feed.rollover-cron:0 0 0 * * *}")
+    public synchronized void rollover() {
+        LocalDate today = LocalDate.now();
+        Catalog current = catalog;
+        if (current == Catalog.EMPTY || !current.day().isBefore(today)) {
+            return;
+        }
+        Map<String, PolicyListRow> open = new HashMap<>(current.rows());
+        open.values().removeIf(row -> !row.alwaysOpen() && row.applicationEndDate() != null && row.applicationEndDate().isBefore(today));
+        catalog = build(open, today);
+        rebase();
+        rankPopular();
+        log.info("Policy feed index rolled over to {}: {} open policies", today, open.size());
+    }
+
+    /**
+     * 인기 상위 K 개를 크기 K 의 최소 힙으로 다시 고릅니다.
+     * 최근 조회가 K 개보다 적으면 누적 조회수 순으로 채워 둡니다. (전체 조회수를 훑는 작업이므로 요청마다 하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${policy.feed.popular-refresh-ms:10000}", initialDelayString = "${policy.feed.popular-refresh-ms:10000}")
+    public void rankPopular() {
+        Map<String, PolicyListRow> open = catalog.rows();
+        Comparator<Map.Entry<String, Double>> order = Map.Entry.<String, Double>comparingByValue()
+                .thenComparing(Map.Entry.<String, Double>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<String, Double>> top = new PriorityQueue<>(order);
+        popularity.scores().forEach((policyNo, score) -> {
+            if (!open.containsKey(policyNo)) {
+                return;
+            }
+            top.add(Map.entry(policyNo, score.sum()));
+            if (top.size() > maxSize) {
+                top.poll();
+            }
+        });
+        List<String> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        if (ranked.size() < maxSize) {
+            Set<String> filled = new LinkedHashSet<>(ranked);
+            for (String policyNo : viewCounter.mostViewed(maxSize * 2)) {
+                if (open.containsKey(policyNo)) {
+                    filled.add(policyNo);
+                    if (filled.size() == maxSize) {
+                        break;
+                    }
+                }
+            }
+            ranked = new ArrayList<>(filled);
+        }
+        popular = List.copyOf(ranked);
+    }
+
+    private Catalog currentCatalog() {
+        Catalog current = catalog;
+        if (current != Catalog.EMPTY && current.day().isBefore(LocalDate.now())) {
+            rollover(); // 자정 작업보다 요청이 먼저 온 경우
+            current = catalog;
+        }
+        return current;
+    }
+
+    private static Catalog build(Map<String, PolicyListRow> rows, LocalDate today) {
+        NavigableMap<LocalDate, List<PolicyListRow>> byDeadline = new TreeMap<>();
+        rows.values().stream()
+                .filter(row -> !row.alwaysOpen() && row.applicationEndDate() != null)
+                .sorted(Comparator.comparing(PolicyListRow::applicationEndDate).thenComparing(PolicyListRow::policyNo))
+                .forEach(row -> byDeadline.computeIfAbsent(row.applicationEndDate(), key -> new ArrayList<>()).add(row));
+        byDeadline.replaceAll((day, list) -> List.copyOf(list));
+        return new Catalog(Map.copyOf(rows), Collections.unmodifiableNavigableMap(byDeadline), today);
+    }
+
+    /**
+     * 기준시각을 현재로 옮기고 점수를 그만큼 줄입니다. 마감된 정책과 거의 0 이 된 점수는 버립니다.
+     * 교체하는 사이에 이전 점수표에 더해진 조회 몇 건은 빠질 수 있습니다.
+     */
+    private void rebase() {
+        Popularity previous = popularity;
+        long now = System.currentTimeMillis();
+        double scale = Math.exp(-(now - previous.landmarkMillis()) / tauMillis);
+        ConcurrentHashMap<String, DoubleAdder> scores = new ConcurrentHashMap<>();
+        previous.scores().forEach((policyNo, score) -> {
+            double scaled = score.sum() * scale;
+            if (scaled >= MIN_SCORE && catalog.rows().containsKey(policyNo)) {
+                DoubleAdder adder = new DoubleAdder();
+                adder.add(scaled);
+                scores.put(policyNo, adder);
+            }
+        });
+        popularity = new Popularity(now, scores);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild the policy feed index; keeping the previous snapshot.", e);
+        }
+    }
+}
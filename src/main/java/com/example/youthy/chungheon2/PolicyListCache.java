@@ -0,0 +1,79 @@
+package com.example.youthy.chungheon2;
+
+import com.example.youthy.chungheon.PolicyCatalogChangedEvent;
+import com.example.youthy.chungheon.PolicyCatalogVersion;
+import com.example.youthy.util.BoundedTtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * 정책 목록 페이지(변환된 DTO + 전체 건수) 캐시
+ * - 키: 조회 종류, 카테고리, 페이지, 크기, 정렬 + 카탈로그 버전 + 오늘 날짜
+ * - 카탈로그 버전이 키에 들어가므로 버전이 바뀌면 이전 페이지는 다시 읽히지 않고, 버전 변경 이벤트를 받으면 전부 비웁니다.
+ *   다른 서버에서 끝난 동기화는 버전 폴링 주기만큼 늦게 반영됩니다. (PolicyCatalogVersion 참고)
+ * - D-Day 문구와 마감 여부가 날짜에 따라 달라지므로 오늘 날짜도 키에 포함합니다.
+ * - 크기(policy.cache.list.max-entries)와 TTL(policy.cache.list.ttl-seconds)로 메모리 사용량을 제한합니다.
+ * 지표: cache.gets{result=hit|miss}, cache.evictions, cache.size (cache=policy-list)
+ */
+@Component
+public class PolicyListCache {
+
+    private static final String CACHE_NAME = "policy-list";
+
+    private final PolicyCatalogVersion catalogVersion;
+    private final BoundedTtlCache<Key, Page<PolicyCategoryDto>> cache;
+    private final boolean enabled;
+
+    public PolicyListCache(PolicyCatalogVersion catalogVersion,
+                           MeterRegistry registry,
+                           @Value("${policy.cache.list.enabled:true}") boolean enabled,
+                           @Value("${policy.cache.list.max-entries:1000}") int maxEntries,
+                           @Value("${policy.cache.list.ttl-seconds:600}") long ttlSeconds) {
+        this.catalogVersion = catalogVersion;
+        this.enabled = enabled;
+        this.cache = new BoundedTtlCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+
+        FunctionCounter.builder("cache.gets", cache, BoundedTtlCache::hitCount)
+                .tag("cache", CACHE_NAME).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", cache, BoundedTtlCache::missCount)
+                .tag("cache", CACHE_NAME).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", cache, BoundedTtlCache::evictionCount)
+                .tag("cache", CACHE_NAME).register(registry);
+        Gauge.builder("cache.size", cache, BoundedTtlCache::size)
+                .tag("cache", CACHE_NAME).register(registry);
+    }
+
+    /**
+     * 캐시된 목록 페이지를 돌려주고, 없으면 loader 로 조회해 저장합니다.
+     * @param query 조회 종류 (예: all, category, open, closing-soon)
+     * @param filter 조회 조건 값 (카테고리, 기간 등, 없으면 null)
+     * @param pageable 페이징/정렬 정보
+     * @param loader DB 조회
+     */
+    public Page<PolicyCategoryDto> get(String query, String filter, Pageable pageable, Supplier<Page<PolicyCategoryDto>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Key key = new Key(query, filter, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString(),
+                catalogVersion.current(), LocalDate.now());
+        return cache.getOrLoad(key, k -> loader.get());
+    }
+
+    @EventListener
+    public void onCatalogChanged(PolicyCatalogChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private record Key(String query, String filter, int page, int size, String sort, long version, LocalDate today) {
+    }
+}
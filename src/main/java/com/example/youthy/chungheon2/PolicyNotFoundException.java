@@ -0,0 +1,17 @@
+package com.example.youthy.chungheon2;
+
+import lombok.Getter;
+
+/**
+ * 요청한 정책번호의 정책이 없음을 나타내는 예외입니다. (404)
+ */
+@Getter
+public class PolicyNotFoundException extends RuntimeException {
+
+    private final String policyNo;
+
+    public PolicyNotFoundException(String policyNo) {
+        super("Policy not found: " + policyNo);
+        this.policyNo = policyNo;
+    }
+}
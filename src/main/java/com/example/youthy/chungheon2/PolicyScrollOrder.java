@@ -0,0 +1,86 @@
+package com.example.youthy.chungheon2;
+
+import com.example.youthy.PolicyListRow;
+import com.example.youthy.YouthPolicy;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * 커서(keyset) 페이지네이션에서 지원하는 정렬 기준
+ * 모든 정렬은 policyNo 를 마지막 기준으로 붙여 순서를 유일하게 만들고, 각 정렬에 맞는 (정렬 컬럼, policy_no) 인덱스를 탑니다.
+ * - DEADLINE: 마감일이 가까운 순 (마감일이 없는 상시/형식 오류 정책은 맨 뒤에 policyNo 순)
+ * - NAME: 정책 이름 순
+ * 조회수 순은 지원하지 않습니다. 조회수는 PolicyViewCounter 가 반영할 때마다 바뀌므로, 조회수를 키로 쓰면
+ * 커서 사이에 순위가 바뀐 정책이 빠지거나 두 번 나옵니다. 인기 정책은 /feed/popular (PolicyFeedIndex)로 조회합니다.
+ */
+public enum PolicyScrollOrder {
+
+    DEADLINE(Sort.by(Sort.Order.asc("applicationEndDate"), Sort.Order.asc("policyNo"))) {
+        @Override
+        String keyOf(PolicyListRow policy) {
+            return policy.applicationEndDate() == null ? "" : policy.applicationEndDate().toString();
+        }
+
+        @Override
+        Specification<YouthPolicy> after(PolicyCursor cursor) {
+            LocalDate endDate = LocalDate.parse(cursor.key());
+            return (root, query, cb) -> {
+                Path<LocalDate> end = root.get("applicationEndDate");
+                return cb.or(cb.greaterThan(end, endDate),
+                        cb.and(cb.equal(end, endDate), cb.greaterThan(root.get("policyNo"), cursor.policyNo())));
+            };
+        }
+    },
+
+    NAME(Sort.by(Sort.Order.asc("policyName"), Sort.Order.asc("policyNo"))) {
+        @Override
+        String keyOf(PolicyListRow policy) {
+            return policy.policyName();
+        }
+
+        @Override
+        Specification<YouthPolicy> after(PolicyCursor cursor) {
+            return (root, query, cb) -> {
+                Path<String> name = root.get("policyName");
+                return cb.or(cb.greaterThan(name, cursor.key()),
+                        cb.and(cb.equal(name, cursor.key()), cb.greaterThan(root.get("policyNo"), cursor.policyNo())));
+            };
+        }
+    };
+
+    private final Sort sort;
+
+    PolicyScrollOrder(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort sort() {
+        return sort;
+    }
+
+    /**
+     * 커서에 담을 정렬 키 값 (policyNo 제외)
+     */
+    abstract String keyOf(PolicyListRow policy);
+
+    /**
+     * 커서가 가리키는 행 "다음"의 행만 고르는 조건 (정렬 방향과 같은 방향의 튜플 비교)
+     */
+    abstract Specification<YouthPolicy> after(PolicyCursor cursor);
+
+    /**
+     * 요청 파라미터 값(deadline, name)을 정렬 기준으로 바꿉니다. (대소문자 무시)
+     */
+    public static PolicyScrollOrder from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported sort for cursor pagination: " + value
+                    + " (deadline, name; use /api/v1/policies/feed/popular for popular policies)");
+        }
+    }
+}
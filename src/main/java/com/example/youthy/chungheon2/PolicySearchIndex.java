@@ -0,0 +1,214 @@
+package com.example.youthy.chungheon2;
+
+import com.example.youthy.PolicyListRow;
+import com.example.youthy.PolicySearchRow;
+import com.example.youthy.YouthPolicyRepository;
+import com.example.youthy.chungheon.PolicyCatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 정책명/정책설명/지원내용에 대한 인메모리 역색인
+ * - 색인: 텍스트를 PolicyTextTokenizer 로 자르고, 필드 가중치(정책명 3, 정책설명 1.5, 지원내용 1)와 빈도 포화(tf / (tf + 1.2))로 문서별 가중치를 구합니다.
+ * - 갱신: 카탈로그가 바뀌면(PolicyCatalogChangedEvent) 내용 지문을 비교해 바뀐 정책만 DB에서 다시 읽고, 역색인을 새로 만들어 한 번에 교체합니다.
+ * - 검색: DB를 거치지 않고 현재 스냅샷만 읽으며, 점수는 Σ idf × 문서 가중치에 검색어 bigram 일치 비율의 제곱을 곱한 값입니다.
+ *   검색어 bigram 의 절반 이상이 일치해야 결과에 포함됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicySearchIndex {
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float SUMMARY_WEIGHT = 1.5f;
+    private static final float CONTENT_WEIGHT = 1.0f;
+    private static final float TF_SATURATION = 1.2f;
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    private final YouthPolicyRepository youthPolicyRepository;
+
+    // refresh() 안에서만 수정합니다. (synchronized)
+    private final Map<String, Document> documents = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private record Document(PolicyListRow row, String contentHash, Map<String, Float> termWeights) {
+    }
+
+    private record Postings(int[] docIds, float[] weights, float idf) {
+    }
+
+    private record Snapshot(Document[] docs, Map<String, Postings> postings) {
+        static final Snapshot EMPTY = new Snapshot(new Document[0], Map.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshQuietly();
+    }
+
+    @EventListener
+    public void onCatalogChanged(PolicyCatalogChangedEvent event) {
+        refreshQuietly();
+    }
+
+    public int size() {
+        return snapshot.docs().length;
+    }
+
+    /**
+     * 검색어와 관련도가 높은 순으로 정책을 조회합니다.
+     * @param keyword 검색어
+     * @param category 정책 분야 (없으면 전체)
+     * @param pageable 페이징 정보 (정렬은 관련도 순으로 고정)
+     * @return 페이징된 정책 목록
+     */
+    public Page<PolicyCategoryDto> search(String keyword, String category, Pageable pageable) {
+        Snapshot current = snapshot;
+        Set<String> terms = new LinkedHashSet<>(PolicyTextTokenizer.tokenize(keyword));
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        float[] scores = new float[current.docs().length];
+        int[] matched = new int[current.docs().length];
+        for (String term : terms) {
+            Postings postings = current.postings().get(term);
+            if (postings == null) {
+                continue;
+            }
+            for (int i = 0; i < postings.docIds().length; i++) {
+                int docId = postings.docIds()[i];
+                scores[docId] += postings.idf() * postings.weights()[i];
+                matched[docId]++;
+            }
+        }
+
+        List<Integer> hits = new ArrayList<>();
+        for (int docId = 0; docId < scores.length; docId++) {
+            if (matched[docId] * 2 < terms.size()) {
+                continue;
+            }
+            if (StringUtils.hasText(category) && !category.equals(current.docs()[docId].row().policyField())) {
+                continue;
+            }
+            float coverage = (float) matched[docId] / terms.size();
+            scores[docId] *= coverage * coverage;
+            hits.add(docId);
+        }
+        hits.sort(Comparator.<Integer>comparingDouble(docId -> -scores[docId])
+                .thenComparing(docId -> current.docs()[docId].row().policyNo()));
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<PolicyCategoryDto> content = hits.subList(from, to).stream()
+                .map(docId -> new PolicyCategoryDto(current.docs()[docId].row()))
+                .toList();
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    /**
+     * DB의 내용 지문과 비교해 바뀐 정책만 다시 색인하고, 역색인 스냅샷을 교체합니다.
+     */
+    public synchronized void refresh() {
+        long started = System.nanoTime();
+        Map<String, String> hashes = new HashMap<>();
+        youthPolicyRepository.findAllContentHashes()
+                .forEach(view -> hashes.put(view.getPolicyNo(), view.getContentHash()));
+
+        int before = documents.size();
+        documents.keySet().retainAll(hashes.keySet());
+        int removed = before - documents.size();
+
+        List<String> changed = hashes.entrySet().stream()
+                .filter(entry -> {
+                    Document document = documents.get(entry.getKey());
+                    return document == null || !Objects.equals(document.contentHash(), entry.getValue());
+                })
+                .map(Map.Entry::getKey)
+                .toList();
+        for (int from = 0; from < changed.size(); from += LOAD_CHUNK_SIZE) {
+            List<String> chunk = changed.subList(from, Math.min(from + LOAD_CHUNK_SIZE, changed.size()));
+            youthPolicyRepository.findSearchRowsByPolicyNoIn(chunk)
+                    .forEach(row -> documents.put(row.policyNo(), toDocument(row)));
+        }
+
+        if (removed > 0 || !changed.isEmpty() || snapshot == Snapshot.EMPTY) {
+            snapshot = buildSnapshot(documents);
+        }
+        log.info("Policy search index refreshed: {} documents ({} re-indexed, {} removed) in {} ms",
+                documents.size(), changed.size(), removed, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh the policy search index; keeping the previous snapshot.", e);
+        }
+    }
+
+    private static Document toDocument(PolicySearchRow row) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, row.policyName(), NAME_WEIGHT);
+        addField(weights, row.policySummary(), SUMMARY_WEIGHT);
+        addField(weights, row.supportContent(), CONTENT_WEIGHT);
+        return new Document(row.toListRow(), row.contentHash(), weights);
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float fieldWeight) {
+        Map<String, Long> frequencies = PolicyTextTokenizer.tokenize(text).stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        frequencies.forEach((term, tf) -> weights.merge(term, fieldWeight * tf / (tf + TF_SATURATION), Float::sum));
+    }
+
+    private static Snapshot buildSnapshot(Map<String, Document> documents) {
+        Document[] docs = documents.values().stream()
+                .sorted(Comparator.comparing(document -> document.row().policyNo()))
+                .toArray(Document[]::new);
+
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (Document document : docs) {
+            document.termWeights().keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+        }
+        Map<String, int[]> ids = new HashMap<>();
+        Map<String, float[]> weights = new HashMap<>();
+        Map<String, Integer> filled = new HashMap<>();
+        documentFrequency.forEach((term, df) -> {
+            ids.put(term, new int[df]);
+            weights.put(term, new float[df]);
+        });
+        for (int docId = 0; docId < docs.length; docId++) {
+            for (Map.Entry<String, Float> entry : docs[docId].termWeights().entrySet()) {
+                int slot = filled.merge(entry.getKey(), 1, Integer::sum) - 1;
+                ids.get(entry.getKey())[slot] = docId;
+                weights.get(entry.getKey())[slot] = entry.getValue();
+            }
+        }
+
+        int n = docs.length;
+        Map<String, Postings> postings = new HashMap<>(documentFrequency.size() * 2);
+        documentFrequency.forEach((term, df) -> {
+            float idf = (float) Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            postings.put(term, new Postings(ids.get(term), weights.get(term), idf));
+        });
+        return new Snapshot(docs, postings);
+    }
+}
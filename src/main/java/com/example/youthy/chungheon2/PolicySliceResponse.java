@@ -0,0 +1,13 @@
+package com.example.youthy.chungheon2;
+
+import java.util.List;
+
+/**
+ * 커서 페이지네이션 응답 (전체 건수를 세지 않으므로 totalElements/totalPages 가 없습니다)
+ * @param content 정책 목록
+ * @param size 요청한 페이지 크기
+ * @param hasNext 다음 페이지가 있는지 여부
+ * @param nextCursor 다음 페이지를 요청할 때 cursor 로 넘길 토큰 (마지막 페이지면 null)
+ */
+public record PolicySliceResponse(List<PolicyCategoryDto> content, int size, boolean hasNext, String nextCursor) {
+}
@@ -0,0 +1,57 @@
+package com.example.youthy.chungheon2;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * 한국어는 띄어쓰기/조사 변화가 많아 형태소 분석 없이도 부분 일치가 되도록 음절 bigram 으로 자릅니다.
+ * (예: "청년월세지원" -> 청년, 년월, 월세, 세지, 지원)
+ * - 한글이 들어 있는 어절: 음절 bigram (한 글자 어절은 그대로)
+ * - 영문/숫자 어절: 소문자로 바꾼 어절 전체
+ */
+final class PolicyTextTokenizer {
+
+    private PolicyTextTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWord(normalized, start, i, tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addWord(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1 || !containsHangul(text, start, end)) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean containsHangul(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.UnicodeScript.of(text.charAt(i)) == Character.UnicodeScript.HANGUL) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
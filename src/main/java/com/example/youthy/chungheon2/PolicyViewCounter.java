@@ -0,0 +1,242 @@
+package com.example.youthy.chungheon2;
+
+import com.example.youthy.YouthPolicyRepository;
+import com.example.youthy.chungheon.PolicyCatalogChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 정책 조회수 카운터 (write-behind)
+ * 상세 조회마다 UPDATE 를 보내면 인기 정책 한 행에 쓰기가 몰리므로, 조회수는 메모리에 모았다가 주기적으로 한 번에 반영합니다.
+ * - 기록: 정책별 LongAdder 에 더합니다. (스레드별로 나뉜 셀에 더하므로 같은 정책을 동시에 조회해도 경합이 없음)
+ * - 반영: policy.views.flush-ms 마다 쌓인 증가분을 "view_count = view_count + ?" JDBC 배치 UPDATE 로 보냅니다.
+ *   증가분만 더하므로 서버가 여러 대여도 서로의 값을 덮어쓰지 않습니다. 종료 시(@PreDestroy)에도 남은 증가분을 반영합니다.
+ * - 조회: DB에 반영된 값(기준값) + 반영 중인 값 + 아직 쌓여 있는 값을 더해 DB 조회 없이 돌려줍니다.
+ *   이 서버가 반영한 증가분은 기준값에 직접 더하고, 전체 조회수는 policy.views.reload-ms(기본 5분)마다와 카탈로그가 바뀔 때만
+ *   DB에서 다시 읽습니다. (반영할 때마다 전체 정책을 읽지 않음) 그래서 다른 서버의 조회수는 그 주기만큼 늦게 따라옵니다.
+ * - 기준값과 반영 중인 값은 한 스냅샷으로 함께 바꿔 끼우므로, 반영이 끝나는 순간에 같은 조회를 두 번 세지 않습니다.
+ *   쌓인 값에서 빼는 것을 반영 중인 값으로 옮기는 것보다 먼저 하므로, 그 사이에 읽으면 잠깐 적게 셀 수는 있어도 많게 세지는 않습니다.
+ * 반영에 실패한 증가분은 버리지 않고 다음 주기에 다시 보냅니다. (서버가 비정상 종료되면 마지막 주기의 조회수는 잃을 수 있음)
+ * 지표: policy.views.recorded, policy.views.flushed, policy.views.pending
+ */
+@Slf4j
+@Component
+public class PolicyViewCounter {
+
+    private static final String INCREMENT_SQL = "UPDATE youth_policy SET view_count = view_count + ? WHERE policy_no = ?";
+
+    private final YouthPolicyRepository youthPolicyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter recorded;
+    private final Counter flushed;
+
+    private final ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * @param persisted DB에 반영된 조회수 (기준값)
+     * @param inFlight 지금 반영 중인 증가분
+     */
+    private record Snapshot(Map<String, Long> persisted, Map<String, Long> inFlight) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+    }
+
+    public PolicyViewCounter(YouthPolicyRepository youthPolicyRepository,
+                             JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry registry,
+                             @Value("${policy.sync.jdbc-batch-size:100}") int batchSize) {
+        this.youthPolicyRepository = youthPolicyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.recorded = Counter.builder("policy.views.recorded").register(registry);
+        this.flushed = Counter.builder("policy.views.flushed").register(registry);
+        Gauge.builder("policy.views.pending", this, PolicyViewCounter::pendingViews)
+                .description("아직 DB에 반영되지 않은 조회수")
+                .register(registry);
+    }
+
+    /**
+     * 정책 조회 1회를 기록합니다. (DB 접근 없음)
+     */
+    public void record(String policyNo) {
+        LongAdder adder = pending.get(policyNo);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(policyNo, key -> new LongAdder());
+        }
+        adder.increment();
+        recorded.increment();
+    }
+
+    /**
+     * 현재 조회수 (아직 DB에 반영되지 않은 조회 포함)
+     */
+    public long viewCount(String policyNo) {
+        return viewCount(snapshot, policyNo);
+    }
+
+    private long viewCount(Snapshot current, String policyNo) {
+        LongAdder adder = pending.get(policyNo);
+        return current.persisted().getOrDefault(policyNo, 0L)
+                + current.inFlight().getOrDefault(policyNo, 0L)
+                + (adder != null ? adder.sum() : 0L);
+    }
+
+    /**
+     * 조회수가 많은 순으로 정책번호를 돌려줍니다. (같으면 정책번호 순, DB 조회 없음)
+     * @param limit 최대 개수
+     */
+    public List<String> mostViewed(int limit) {
+        Comparator<Map.Entry<String, Long>> order = Map.Entry.<String, Long>comparingByValue()
+                .thenComparing(Map.Entry.<String, Long>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<String, Long>> top = new PriorityQueue<>(order);
+        Snapshot current = snapshot;
+        for (String policyNo : current.persisted().keySet()) {
+            top.add(Map.entry(policyNo, viewCount(current, policyNo)));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<String> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().getKey());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    @EventListener
+    public void onCatalogChanged(PolicyCatalogChangedEvent event) {
+        flush();
+        reload(); // publish 로 정책이 추가/삭제되었을 수 있으므로 기준값을 다시 읽습니다.
+    }
+
+    /**
+     * 쌓인 증가분을 DB에 반영하고 기준값에 더합니다. 쌓인 증가분이 없으면 DB에 접근하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${policy.views.flush-ms:30000}", initialDelayString = "${policy.views.flush-ms:30000}")
+    public synchronized void flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        pending.forEach((policyNo, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                deltas.put(policyNo, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // sumThenReset 은 동시에 더해진 값을 잃을 수 있으므로, 읽은 만큼만 뺍니다. (반영 중으로 옮기기 전에 빼서 두 번 세지 않음)
+        deltas.forEach((policyNo, delta) -> pending.get(policyNo).add(-delta));
+        snapshot = new Snapshot(snapshot.persisted(), deltas);
+
+        Map<String, Long> missed;
+        try {
+            missed = write(deltas);
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush view counts of {} policies; retrying on the next flush: {}", deltas.size(), e.getMessage());
+            snapshot = new Snapshot(snapshot.persisted(), Map.of());
+            deltas.forEach(this::giveBack);
+            return;
+        }
+        Map<String, Long> counts = new HashMap<>(snapshot.persisted());
+        long written = 0;
+        for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+            if (!missed.containsKey(entry.getKey())) {
+                counts.merge(entry.getKey(), entry.getValue(), Long::sum);
+                written += entry.getValue();
+            }
+        }
+        snapshot = new Snapshot(counts, Map.of());
+        missed.forEach(this::giveBack);
+        flushed.increment(written);
+        log.debug("Flushed {} views of {} policies.", written, deltas.size() - missed.size());
+    }
+
+    /**
+     * 모든 정책의 조회수를 DB에서 다시 읽어 기준값을 바꿉니다. (다른 서버가 반영한 조회수, 삭제된 정책 정리)
+     * 실패하면 이전 기준값을 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${policy.views.reload-ms:300000}", initialDelayString = "${policy.views.reload-ms:300000}")
+    public synchronized void reload() {
+        try {
+            Map<String, Long> counts = new HashMap<>();
+            youthPolicyRepository.findAllViewCounts().forEach(view -> counts.put(view.getPolicyNo(), (long) view.getViewCount()));
+            snapshot = new Snapshot(counts, snapshot.inFlight());
+            pending.keySet().removeIf(policyNo -> !counts.containsKey(policyNo)); // 삭제된 정책의 증가분
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload policy view counts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 합계
+     */
+    public long pendingViews() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * 증가분을 배치 UPDATE 로 반영합니다. 행이 없어 반영되지 않은 증가분은 돌려주어 다음 주기에 다시 보냅니다.
+     * (publish 도중이라 행이 잠시 없었던 경우를 위해서이며, 정말 삭제된 정책이면 reload 에서 버립니다)
+     * @return 반영되지 않은 증가분 (정책번호별)
+     */
+    private Map<String, Long> write(Map<String, Long> deltas) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int[][] results = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INCREMENT_SQL, entries, batchSize,
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setString(2, entry.getKey());
+                }));
+        Map<String, Long> missed = new HashMap<>();
+        int index = 0;
+        for (int[] batch : results) {
+            for (int updated : batch) {
+                Map.Entry<String, Long> entry = entries.get(index++);
+                if (updated <= 0 && updated != Statement.SUCCESS_NO_INFO) {
+                    missed.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return missed;
+    }
+
+    private void giveBack(String policyNo, long delta) {
+        pending.computeIfAbsent(policyNo, key -> new LongAdder()).add(delta);
+    }
+}
@@ -6,10 +6,14 @@ import org.springframework.data.web.PageableDefault; // PageableDefault import
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/policies")
@@ -17,23 +21,41 @@ public class YouthPolicyController {
 
     private final YouthPolicyService youthPolicyService;
 
-    // ... (기존 searchPolicies, getPolicyDetail 엔드포인트는 그대로 유지)
+    /**
+     * 정책명/정책설명/지원내용에서 검색어로 정책을 찾아 관련도 순으로 조회합니다.
+     * @param q 검색어 (예: 월세 지원)
+     * @param category 조회할 정책 카테고리 (없으면 전체)
+     * @param pageable 페이징 정보 (정렬은 관련도 순으로 고정)
+     * @return 페이징된 정책 목록
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<PolicyCategoryDto>> searchPolicies(
+            @RequestParam String q,
+            @RequestParam(required = false) String category,
+            @PageableDefault(size = 12) Pageable pageable) {
+        return ResponseEntity.ok(youthPolicyService.searchPolicies(q, category, pageable));
+    }
 
     /**
      * 특정 카테고리의 정책 목록을 12개씩 페이징하여 조회합니다.
      * @param category 조회할 정책 카테고리 (예: 일자리, 복지문화)
+     * @param openOnly true 이면 아직 마감되지 않은 정책만 조회
      * @param pageable 페이징 정보 (클라이언트에서 size 미지정 시 12개)
      * @return 페이징된 정책 목록 (정책이름, 카테고리, 디데이, 정책번호)
      */
     @GetMapping // "/category/{category}" 부분을 제거하여 기본 경로로 변경
     public ResponseEntity<Page<PolicyCategoryDto>> getPolicies(
             @RequestParam(required = false) String category, // PathVariable을 RequestParam으로 변경
+            @RequestParam(defaultValue = "false") boolean openOnly,
             @PageableDefault(size = 12) Pageable pageable) {
 
         Page<PolicyCategoryDto> results;
 
         // ✅ category 파라미터의 존재 여부에 따라 다른 서비스 메서드를 호출
-        if (StringUtils.hasText(category)) {
+        if (openOnly) {
+            // 마감되지 않은 정책만: 마감일 컬럼으로 DB에서 거릅니다.
+            results = youthPolicyService.findOpenPolicies(category, pageable);
+        } else if (StringUtils.hasText(category)) {
             // 카테고리 값이 있으면: 카테고리별 조회
             results = youthPolicyService.findPoliciesByCategory(category, pageable);
         } else {
@@ -43,5 +65,116 @@ public class YouthPolicyController {
 
         return ResponseEntity.ok(results);
     }
-}
 
+    /**
+     * 마감 임박 정책 목록을 마감일이 가까운 순으로 조회합니다.
+     * "마감 임박" 목록 화면용으로, 전체 건수와 페이지 이동이 필요할 때 씁니다. (DB 조회, 목록 캐시 사용)
+     * 홈 화면 카드처럼 앞쪽 몇 건만 필요하면 /feed/closing-soon 을 씁니다. 두 API 의 순서(마감일, 정책번호)는 같습니다.
+     * @param days 오늘부터 며칠 안에 마감되는 정책을 볼지 (기본 7일)
+     * @param pageable 페이징 정보
+     * @return 페이징된 정책 목록
+     */
+    @GetMapping("/closing-soon")
+    public ResponseEntity<Page<PolicyCategoryDto>> getClosingSoonPolicies(
+            @RequestParam(defaultValue = "7") int days,
+            @PageableDefault(size = 12) Pageable pageable) {
+        return ResponseEntity.ok(youthPolicyService.findClosingSoonPolicies(days, pageable));
+    }
+
+    /**
+     * 홈 화면 "요즘 많이 보는 정책" 피드를 조회합니다. (최근 조회일수록 크게 반영, 마감되지 않은 정책만)
+     * @param size 최대 개수 (기본 10)
+     * @return 인기 순 정책 목록
+     */
+    @GetMapping("/feed/popular")
+    public ResponseEntity<List<PolicyCategoryDto>> getPopularFeed(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(youthPolicyService.findPopularFeed(size));
+    }
+
+    /**
+     * 홈 화면 "마감 임박 정책" 피드를 조회합니다.
+     * 앞쪽 size 건만 인메모리 색인에서 꺼내므로 DB 를 조회하지 않고 전체 건수도 세지 않습니다.
+     * 페이지를 넘겨 보는 목록 화면은 /closing-soon 을 씁니다. (순서는 같으므로 이 피드는 그 첫 페이지와 같은 정책으로 시작합니다)
+     * @param days 오늘부터 며칠 안에 마감되는 정책을 볼지 (기본 7일)
+     * @param size 최대 개수 (기본 10)
+     * @return 마감일이 가까운 순 정책 목록
+     */
+    @GetMapping("/feed/closing-soon")
+    public ResponseEntity<List<PolicyCategoryDto>> getClosingSoonFeed(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(youthPolicyService.findClosingSoonFeed(days, size));
+    }
+
+    /**
+     * 커서 방식으로 정책 목록을 조회합니다. (무한 스크롤용, mode=cursor 일 때 기존 offset 조회 대신 사용)
+     * 전체 건수를 세지 않으며, 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회합니다.
+     * @param category 조회할 정책 카테고리 (없으면 전체)
+     * @param openOnly true 이면 아직 마감되지 않은 정책만 조회
+     * @param sort 정렬 기준: deadline(마감 임박순), name(이름순) (인기순은 조회수가 계속 바뀌어 커서로 이어 볼 수 없으므로 /feed/popular 사용)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 정책 목록 + 다음 페이지 커서
+     */
+    @GetMapping(params = "mode=cursor")
+    public ResponseEntity<PolicySliceResponse> scrollPolicies(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "false") boolean openOnly,
+            @RequestParam(defaultValue = "deadline") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size) {
+        return ResponseEntity.ok(youthPolicyService.scrollPolicies(category, openOnly, PolicyScrollOrder.from(sort), cursor, size));
+    }
+
+    /**
+     * 사용자 조건에 맞는("내가 받을 수 있는") 정책 목록과 분야별 개수를 조회합니다.
+     * 값을 주지 않은 조건은 거르지 않으며, 코드 값은 온통청년 API 코드를 그대로 씁니다.
+     * @param age 나이
+     * @param zipCode 거주지역 시군구 코드 5자리
+     * @param education 학력 코드 (예: 0049007)
+     * @param employment 취업상태 코드 (예: 0013003)
+     * @param specialized 해당하는 특화 요건 코드들 (예: 0014001, 여러 개 가능)
+     * @param category 관심 정책 분야 (여러 개 가능, 없으면 전체)
+     * @param openOnly true 이면 아직 마감되지 않은 정책만 (기본 true)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 100)
+     * @return 조건에 맞는 정책 수, 분야별 수, 마감 임박순 정책 목록
+     */
+    @GetMapping("/eligible")
+    public ResponseEntity<PolicyEligibilityResponse> getEligiblePolicies(
+            @RequestParam(required = false) Integer age,
+            @RequestParam(required = false) String zipCode,
+            @RequestParam(required = false) String education,
+            @RequestParam(required = false) String employment,
+            @RequestParam(required = false) Set<String> specialized,
+            @RequestParam(required = false) Set<String> category,
+            @RequestParam(defaultValue = "true") boolean openOnly,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size) {
+        EligibilityProfile profile = new EligibilityProfile(age, zipCode, education, employment, specialized, category, openOnly);
+        return ResponseEntity.ok(youthPolicyService.findEligiblePolicies(profile, page, size));
+    }
+
+    /**
+     * 지역에서 받을 수 있는 정책 목록을 조회합니다. (시도 전체, 전국 대상 정책 포함)
+     * @param regionCode 시군구 코드 5자리(예: 11110) 또는 시도 코드(예: 11, 11000)
+     * @param pageable 페이징 정보
+     * @return 페이징된 정책 목록
+     */
+    @GetMapping("/region/{regionCode}")
+    public ResponseEntity<Page<PolicyCategoryDto>> getPoliciesByRegion(
+            @PathVariable String regionCode,
+            @PageableDefault(size = 12) Pageable pageable) {
+        return ResponseEntity.ok(youthPolicyService.findPoliciesByRegion(regionCode, pageable));
+    }
+
+    /**
+     * 정책 상세 정보를 조회합니다. (목록 API 와 달리 신청절차, 제출서류 등 전체 내용을 포함)
+     * @param policyNo 정책번호
+     * @return 정책 상세 정보 (없는 정책번호면 404)
+     */
+    @GetMapping("/{policyNo}")
+    public ResponseEntity<PolicyDetailDto> getPolicyDetail(@PathVariable String policyNo) {
+        return ResponseEntity.ok(youthPolicyService.getPolicyDetail(policyNo));
+    }
+}
@@ -1,21 +1,104 @@
 package com.example.youthy.chungheon2;
 
+import com.example.youthy.PolicyListRow;
 import com.example.youthy.YouthPolicy;
 import com.example.youthy.YouthPolicyRepository;
+import com.example.youthy.util.RegionCodes;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정책 조회 서비스
+ * 목록 조회는 PolicyListCache 를 거치며, 카탈로그가 바뀌기 전까지는 같은 페이지를 DB에서 다시 읽지 않습니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class YouthPolicyService {
 
     private final YouthPolicyRepository youthPolicyRepository;
+    private final PolicyListCache listCache;
+    private final PolicySearchIndex searchIndex;
+    private final PolicyEligibilityIndex eligibilityIndex;
+    private final PolicyViewCounter viewCounter;
+    private final PolicyFeedIndex feedIndex;
 
-    // ... (기존 searchPolicies, getPolicyDetail 메서드는 그대로 유지)
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 정책명/정책설명/지원내용에서 검색어를 찾아 관련도 순으로 조회합니다. (인메모리 색인만 사용, DB 조회 없음)
+     * @param keyword 검색어
+     * @param category 정책 분야 (없으면 전체)
+     * @param pageable 페이징 정보
+     * @return 페이징된 정책 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<PolicyCategoryDto> searchPolicies(String keyword, String category, Pageable pageable) {
+        if (!StringUtils.hasText(keyword)) {
+            throw new IllegalArgumentException("Search keyword must not be blank");
+        }
+        return searchIndex.search(keyword, category, pageable);
+    }
+
+    /**
+     * 사용자 조건(나이, 거주지역, 학력, 취업상태, 특화 요건)에 맞는 정책을 조회합니다. (인메모리 색인만 사용, DB 조회 없음)
+     * @param profile 사용자 조건
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 조건에 맞는 정책 수, 분야별 수, 현재 페이지 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PolicyEligibilityResponse findEligiblePolicies(EligibilityProfile profile, int page, int size) {
+        return eligibilityIndex.match(profile, Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * 정책 상세 정보를 조회하고 조회수를 1 올립니다. 전체 엔티티(TEXT 컬럼, 거주지역 포함)를 읽는 유일한 조회 경로입니다.
+     * 조회수는 PolicyViewCounter 에 모았다가 주기적으로 DB에 반영하므로, 이 조회는 읽기 전용 트랜잭션으로 끝납니다.
+     * @param policyNo 정책번호
+     * @return 정책 상세 DTO
+     * @throws PolicyNotFoundException 정책이 없는 경우
+     */
+    public PolicyDetailDto getPolicyDetail(String policyNo) {
+        YouthPolicy policy = youthPolicyRepository.findWithResidencesByPolicyNo(policyNo)
+                .orElseThrow(() -> new PolicyNotFoundException(policyNo));
+        viewCounter.record(policyNo);
+        feedIndex.recordView(policyNo);
+        return new PolicyDetailDto(policy, viewCounter.viewCount(policyNo));
+    }
+
+    /**
+     * 요즘 많이 보는(최근 조회일수록 가중치가 큰) 정책을 조회합니다. (인메모리 색인만 사용, DB 조회 없음)
+     * @param size 최대 개수
+     * @return 인기 순 정책 목록 (마감되지 않은 정책만)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<PolicyCategoryDto> findPopularFeed(int size) {
+        return feedIndex.popular(size);
+    }
+
+    /**
+     * 오늘부터 days 일 안에 마감되는 정책을 조회합니다. (인메모리 색인만 사용, DB 조회 없음)
+     * @param days 기간(일)
+     * @param size 최대 개수
+     * @return 마감일이 가까운 순 정책 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<PolicyCategoryDto> findClosingSoonFeed(int days, int size) {
+        return feedIndex.closingSoon(days, size);
+    }
 
     /**
      * 특정 카테고리에 해당하는 정책 목록을 조회합니다.
@@ -23,23 +106,147 @@ public class YouthPolicyService {
      * @param pageable 페이징 정보
      * @return 페이징된 정책 카테고리 DTO 목록
      */
+    @Transactional(propagation = Propagation.SUPPORTS) // 캐시 적중 시 트랜잭션(커넥션)을 열지 않음
     public Page<PolicyCategoryDto> findPoliciesByCategory(String category, Pageable pageable) {
-        Page<YouthPolicy> entities = youthPolicyRepository.findByPolicyField(category, pageable);
+        return listCache.get("category", category, pageable, () -> {
+            // 목록에 필요한 컬럼만 프로젝션으로 읽습니다. (TEXT 컬럼/거주지역 제외)
+            Page<PolicyListRow> rows = youthPolicyRepository.findListRowsByPolicyField(category, pageable);
 
-        // Page<YouthPolicy>를 Page<PolicyCategoryDto>로 변환하여 반환
-        return entities.map(PolicyCategoryDto::new);
+            // Page<PolicyListRow>를 Page<PolicyCategoryDto>로 변환하여 반환
+            return rows.map(PolicyCategoryDto::new);
+        });
     }
     /**
      * 모든 정책 목록을 페이징하여 조회합니다.
      * @param pageable 페이징 정보
      * @return 페이징된 전체 정책 DTO 목록
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<PolicyCategoryDto> findAllPolicies(Pageable pageable) {
-        // JpaRepository의 기본 findAll 메서드를 사용합니다.
-        Page<YouthPolicy> entities = youthPolicyRepository.findAll(pageable);
+        return listCache.get("all", null, pageable, () -> {
+            Page<PolicyListRow> rows = youthPolicyRepository.findAllListRows(pageable);
 
-        // Page<YouthPolicy>를 Page<PolicyCategoryDto>로 변환하여 반환
-        return entities.map(PolicyCategoryDto::new);
+            // Page<PolicyListRow>를 Page<PolicyCategoryDto>로 변환하여 반환
+            return rows.map(PolicyCategoryDto::new);
+        });
+    }
+
+    /**
+     * 아직 마감되지 않은 정책 목록을 조회합니다. (카테고리를 주면 해당 카테고리 안에서)
+     * @param category 조회할 정책 카테고리 (없으면 전체)
+     * @param pageable 페이징 정보
+     * @return 페이징된 정책 DTO 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<PolicyCategoryDto> findOpenPolicies(String category, Pageable pageable) {
+        return listCache.get("open", category, pageable, () -> {
+            LocalDate today = LocalDate.now();
+            Page<PolicyListRow> rows = StringUtils.hasText(category)
+                    ? youthPolicyRepository.findOpenListRowsByPolicyField(category, today, pageable)
+                    : youthPolicyRepository.findOpenListRows(today, pageable);
+            return rows.map(PolicyCategoryDto::new);
+        });
+    }
+
+    /**
+     * 오늘부터 days 일 안에 마감되는 정책을 마감일이 가까운 순으로 조회합니다.
+     * @param days 기간(일)
+     * @param pageable 페이징 정보 (정렬은 마감일 오름차순으로 고정)
+     * @return 페이징된 정책 DTO 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<PolicyCategoryDto> findClosingSoonPolicies(int days, Pageable pageable) {
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return listCache.get("closing-soon", String.valueOf(days), unsorted, () -> {
+            LocalDate today = LocalDate.now();
+            return youthPolicyRepository.findClosingListRows(today, today.plusDays(days), unsorted)
+                    .map(PolicyCategoryDto::new);
+        });
     }
-}
 
+    /**
+     * 지역에서 받을 수 있는 정책 목록을 조회합니다. (상위 시도 전체, 전국 대상 정책 포함)
+     * @param regionCode 시군구 코드 5자리(예: 11110), 시도 코드 2자리(예: 11) 또는 시도 전체 코드(예: 11000)
+     *                   시도를 주면 그 시도 안 어느 시군구 대상이든 모두 포함합니다.
+     * @param pageable 페이징 정보
+     * @return 페이징된 정책 DTO 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<PolicyCategoryDto> findPoliciesByRegion(String regionCode, Pageable pageable) {
+        String code = regionCode == null ? "" : regionCode.trim();
+        String sido;
+        if (code.length() == 2 && code.chars().allMatch(Character::isDigit)) {
+            sido = code;
+        } else if (RegionCodes.isValid(code)) {
+            sido = RegionCodes.isSidoScope(code) ? RegionCodes.sidoOf(code) : null;
+        } else {
+            throw new IllegalArgumentException("Invalid region code: " + regionCode);
+        }
+        return listCache.get("region", code, pageable, () -> {
+            Page<PolicyListRow> rows = sido != null
+                    ? youthPolicyRepository.findListRowsByRegionRange(RegionCodes.sidoScope(sido), RegionCodes.sidoRangeEnd(sido), RegionCodes.NATIONWIDE, pageable)
+                    : youthPolicyRepository.findListRowsByRegionScopes(RegionCodes.scopesFor(code), pageable);
+            return rows.map(PolicyCategoryDto::new);
+        });
+    }
+
+    /**
+     * 커서(keyset) 방식으로 정책 목록을 조회합니다. COUNT 쿼리 없이 size + 1 건만 읽어 다음 페이지 여부를 판단하고,
+     * 마지막 행의 (정렬 키, policyNo) 다음부터 인덱스를 따라 읽으므로 깊은 페이지도 앞 페이지를 건너뛰는 비용이 없습니다.
+     * @param category 정책 분야 (없으면 전체)
+     * @param openOnly true 이면 아직 마감되지 않은 정책만
+     * @param order 정렬 기준 (cursor 가 있으면 cursor 의 정렬을 따름)
+     * @param cursorToken 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     */
+    public PolicySliceResponse scrollPolicies(String category, boolean openOnly, PolicyScrollOrder order, String cursorToken, int size) {
+        PolicyCursor cursor = StringUtils.hasText(cursorToken) ? PolicyCursor.decode(cursorToken) : null;
+        PolicyScrollOrder effectiveOrder = cursor != null ? cursor.order() : order;
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Specification<YouthPolicy> filter = Specification.unrestricted();
+        if (StringUtils.hasText(category)) {
+            filter = filter.and((root, query, cb) -> cb.equal(root.get("policyField"), category));
+        }
+        if (openOnly) {
+            LocalDate today = LocalDate.now();
+            filter = filter.and((root, query, cb) -> cb.or(cb.isTrue(root.get("alwaysOpen")),
+                    cb.isNull(root.get("applicationEndDate")),
+                    cb.greaterThanOrEqualTo(root.get("applicationEndDate"), today)));
+        }
+
+        List<PolicyListRow> rows = effectiveOrder == PolicyScrollOrder.DEADLINE
+                ? scrollByDeadline(filter, cursor, limit + 1)
+                : fetch(cursor == null ? filter : filter.and(effectiveOrder.after(cursor)), effectiveOrder.sort(), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<PolicyListRow> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? PolicyCursor.after(effectiveOrder, page.get(page.size() - 1)).encode() : null;
+        return new PolicySliceResponse(page.stream().map(PolicyCategoryDto::new).toList(), limit, hasNext, nextCursor);
+    }
+
+    /**
+     * 마감일 순 조회: 마감일이 있는 정책을 (마감일, policyNo) 순으로 다 읽은 뒤, 마감일이 없는 정책을 policyNo 순으로 이어 읽습니다.
+     * NULL 을 정렬 키에 섞지 않아 두 구간 모두 인덱스 범위 조회가 됩니다.
+     */
+    private List<PolicyListRow> scrollByDeadline(Specification<YouthPolicy> filter, PolicyCursor cursor, int fetchSize) {
+        Specification<YouthPolicy> undated = filter.and((root, query, cb) -> cb.isNull(root.get("applicationEndDate")));
+        Sort byPolicyNo = Sort.by("policyNo");
+        if (cursor != null && cursor.inUndatedSection()) {
+            return fetch(undated.and((root, query, cb) -> cb.greaterThan(root.get("policyNo"), cursor.policyNo())), byPolicyNo, fetchSize);
+        }
+        Specification<YouthPolicy> dated = filter.and((root, query, cb) -> cb.isNotNull(root.get("applicationEndDate")));
+        if (cursor != null) {
+            dated = dated.and(PolicyScrollOrder.DEADLINE.after(cursor));
+        }
+        List<PolicyListRow> rows = new ArrayList<>(fetch(dated, PolicyScrollOrder.DEADLINE.sort(), fetchSize));
+        if (rows.size() < fetchSize) {
+            rows.addAll(fetch(undated, byPolicyNo, fetchSize - rows.size()));
+        }
+        return rows;
+    }
+
+    private List<PolicyListRow> fetch(Specification<YouthPolicy> spec, Sort sort, int limit) {
+        return youthPolicyRepository.findListRows(spec, sort, limit);
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.youthy.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 /**
  * 애플리케이션 전반에 사용될 Bean들을 등록하는 설정 클래스
  */
@@ -12,9 +18,21 @@ public class AppConfig {
 
     /**
      * RestTemplate을 Spring 컨테이너에 Bean으로 등록
+     * - JDK HttpClient 하나를 재사용하므로 keep-alive 커넥션이 풀링되어, 페이지마다 새로 연결(TCP/TLS 핸드셰이크)하지 않습니다.
+     * - 연결/읽기 타임아웃을 두어 응답 없는 외부 서버 때문에 요청 스레드가 무한정 묶이지 않도록 합니다.
+     * - 정책 API 전용 RestTemplate(policyApiRestTemplate)이 따로 있으므로, 한정자 없이 주입받으면 이 Bean 이 사용됩니다.
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @Primary
+    public RestTemplate restTemplate(@Value("${app.http.connect-timeout-ms:3000}") long connectTimeoutMillis,
+                                     @Value("${app.http.read-timeout-ms:10000}") long readTimeoutMillis) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        return new RestTemplate(requestFactory);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,12 @@
 package com.example.youthy.config;
 
 import com.example.youthy.domain.Member;
-import com.example.youthy.repository.MemberRepository;
+import com.example.youthy.service.MemberSnapshotCache;
+import com.example.youthy.service.TokenRevocationList;
+import com.example.youthy.service.TokenService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
@@ -14,16 +17,31 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Date;
 import java.util.Optional;
 
+/**
+ * 회원 API 요청의 Bearer 토큰을 검증하고, 회원을 "authMember" 요청 속성에 넣습니다. (적용 경로는 WebConfig 의 등록에서 정함)
+ * - 서명 키와 JWT 파서는 생성 시 한 번만 만들어 재사용합니다. (JwtParser 는 불변이라 여러 요청 스레드에서 함께 써도 안전)
+ * - 회원은 MemberSnapshotCache 로 찾으므로, 캐시 적중 시 인증에 DB 조회가 없습니다.
+ * - stateless 모드(auth.stateless = true)에서는 회원을 조회하지 않고, 검증된 토큰의 memberId/kakaoId/username 클레임으로
+ *   비영속 Member 를 만듭니다. (email 은 토큰에 없으므로 null)
+ * 두 모드 모두 TokenRevocationList 로 폐기된 회원의 토큰을 거부합니다. (DB 조회 없음)
+ */
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final String jwtSecret;
-    private final MemberRepository memberRepository;
-
-    public JwtAuthFilter(String jwtSecret, MemberRepository memberRepository) {
-        this.jwtSecret = jwtSecret;
-        this.memberRepository = memberRepository;
+    private final JwtParser jwtParser;
+    private final MemberSnapshotCache memberCache;
+    private final TokenRevocationList revocations;
+    private final boolean stateless;
+
+    public JwtAuthFilter(String jwtSecret, MemberSnapshotCache memberCache, TokenRevocationList revocations, boolean stateless) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.memberCache = memberCache;
+        this.revocations = revocations;
+        this.stateless = stateless;
     }
 
     @Override
@@ -51,12 +69,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         String token = header.substring(7).trim();
         try {
-            // ★ JJWT 최신 사용법: parserBuilder
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
 
             // memberId 우선, 없으면 id를 허용(호환)
             Long memberId = claims.get("memberId", Long.class);
@@ -74,7 +87,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 return;
             }
 
-            Optional<Member> opt = memberRepository.findById(memberId);
+            if (revocations.isRevoked(memberId, issuedAtMillis(claims))) {
+                writeJson(res, HttpServletResponse.SC_UNAUTHORIZED, "Token has been revoked");
+                return;
+            }
+
+            Optional<Member> opt = stateless ? Optional.of(fromClaims(memberId, claims)) : memberCache.find(memberId);
             if (opt.isEmpty()) {
                 writeJson(res, HttpServletResponse.SC_UNAUTHORIZED, "User not found");
                 return;
@@ -90,6 +108,27 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * 발급 시각(epoch ms). 밀리초 클레임(TokenService.ISSUED_AT_MILLIS_CLAIM)이 없는 예전 토큰은 초 단위 iat 를 씁니다.
+     */
+    private static Long issuedAtMillis(Claims claims) {
+        Object millis = claims.get(TokenService.ISSUED_AT_MILLIS_CLAIM);
+        if (millis instanceof Number num) {
+            return num.longValue();
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt != null ? issuedAt.getTime() : null;
+    }
+
+    private static Member fromClaims(Long memberId, Claims claims) {
+        Object kakaoId = claims.get("kakaoId");
+        return Member.builder()
+                .id(memberId)
+                .kakaoId(kakaoId instanceof Number num ? num.longValue() : null)
+                .username(claims.get("username", String.class))
+                .build();
+    }
+
     private static void writeJson(HttpServletResponse res, int status, String message) throws IOException {
         res.setStatus(status);
         res.setContentType("application/json;charset=UTF-8");
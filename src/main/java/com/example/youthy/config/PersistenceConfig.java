@@ -0,0 +1,26 @@
+package com.example.youthy.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA(Hibernate) 관련 설정
+ * - 정책 동기화처럼 대량으로 쓰는 작업을 위해 JDBC 배치와 INSERT/UPDATE 정렬을 켭니다.
+ * - application.yml 의 spring.jpa.properties.hibernate.* 에 같은 키가 있으면 그 값이 우선합니다.
+ * - MySQL 에서는 접속 URL 에 rewriteBatchedStatements=true 를 함께 주어야 배치가 multi-row INSERT 로 전송됩니다.
+ */
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer(
+            @Value("${policy.sync.jdbc-batch-size:100}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
@@ -1,10 +1,20 @@
 package com.example.youthy.config;
 
+import com.example.youthy.service.MemberSnapshotCache;
+import com.example.youthy.service.TokenRevocationList;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -12,13 +22,49 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
 
+    /**
+     * CORS 는 필터로 처리합니다. (JwtAuthFilter 보다 먼저 실행)
+     * 인증 필터가 직접 쓰는 401 응답에도 CORS 헤더가 붙어야 프론트엔드가 상태 코드를 읽고 토큰을 재발급할 수 있기 때문입니다.
+     */
+    @Bean
+    public FilterRegistrationBean<CorsFilter> corsFilter() {
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowedOrigins(List.of(allowedOrigins.split(","))); // yml 파일에서 주입받은, 허용할 출처(프론트엔드 주소)
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS")); // 허용할 HTTP 메서드
+        config.addAllowedHeader("*"); // 허용할 HTTP 헤더
+        config.setAllowCredentials(true); // 쿠키 등 자격 증명 정보를 허용
+        config.setMaxAge(3600L); // Pre-flight 요청의 캐시 시간 (초 단위)
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config); // 모든 경로에 대해 CORS 정책을 적용
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(new CorsFilter(source));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * 회원 API(/api/me, /api/me/**)는 검증된 access 토큰이 있어야 합니다.
+     * 정책 조회 API(/api/v1/policies/**)는 로그인 없이 쓰는 공개 API 이므로 등록하지 않습니다.
+     * auth.stateless=true 이면 회원을 조회하지 않고 토큰 클레임으로 인증합니다. (JwtAuthFilter 참고)
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthFilter> jwtAuthFilter(@Value("${jwt.secret}") String jwtSecret,
+                                                               @Value("${auth.stateless:false}") boolean stateless,
+                                                               MemberSnapshotCache memberCache,
+                                                               TokenRevocationList revocations) {
+        FilterRegistrationBean<JwtAuthFilter> registration =
+                new FilterRegistrationBean<>(new JwtAuthFilter(jwtSecret, memberCache, revocations, stateless));
+        registration.addUrlPatterns("/api/me", "/api/me/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /**
+     * @CurrentMember 파라미터는 JwtAuthFilter 가 넣은 "authMember" 요청 속성에서만 가져옵니다.
+     * (등록하지 않으면 Spring 이 Member 를 쿼리 파라미터로 바인딩하므로 ?id= 로 다른 회원을 흉내 낼 수 있음)
+     */
     @Override
-    public void addCorsMappings(CorsRegistry registry) {
-        registry.addMapping("/**") // 1. 모든 경로에 대해 CORS 정책을 적용합니다.
-                .allowedOrigins(allowedOrigins.split(",")) // 2. yml 파일에서 주입받은, 허용할 출처(프론트엔드 주소)를 설정합니다.
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // 3. 허용할 HTTP 메서드를 지정합니다.
-                .allowedHeaders("*") // 4. 허용할 HTTP 헤더를 지정합니다.
-                .allowCredentials(true) // 5. 쿠키 등 자격 증명 정보를 허용합니다.
-                .maxAge(3600); // 6. Pre-flight 요청의 캐시 시간을 설정합니다. (초 단위)
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentMemberArgumentResolver());
     }
-}
\ No newline at end of file
+}
@@ -2,13 +2,23 @@ package com.example.youthy.controller;
 
 import com.example.youthy.config.CurrentMember;
 import com.example.youthy.domain.Member;
+import com.example.youthy.repository.RefreshTokenRepository;
+import com.example.youthy.service.TokenService;
+import com.example.youthy.util.HashUtil;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class MemberController {
 
+    private final TokenService tokenService;
+
     /**
      * 현재 로그인한 나의 정보 조회
      * - 고정 경로: GET /api/me
@@ -27,7 +37,64 @@ public class MemberController {
         ));
     }
 
+    /**
+     * 나의 로그인 세션(기기) 목록
+     * - 고정 경로: GET /api/me/sessions
+     * - 활성 refresh 토큰 하나가 세션 하나이며, 최근 사용 순으로 반환
+     * - 요청에 refresh 쿠키가 있으면 그 세션을 current=true 로 표시
+     */
+    @GetMapping("/me/sessions")
+    public ResponseEntity<?> sessions(@CurrentMember Member member,
+                                      @CookieValue(name = "refresh", required = false) String refresh) {
+        if (member == null || member.getId() == null) {
+            return ResponseEntity.status(401).body(new ErrorResponse("Unauthorized"));
+        }
+        String currentHash = (refresh != null && refresh.startsWith("rt_")) ? HashUtil.sha256(refresh) : null;
+        List<SessionResponse> sessions = tokenService.findActiveSessions(member.getId()).stream()
+                .map(session -> SessionResponse.of(session, session.getTokenHash().equals(currentHash)))
+                .toList();
+        return ResponseEntity.ok(sessions);
+    }
+
+    /**
+     * 세션 하나 로그아웃 (해당 기기의 refresh 토큰 폐기)
+     * - 고정 경로: DELETE /api/me/sessions/{sessionId}
+     * - 나의 활성 세션이 아니면 404 (재발급으로 id 가 바뀌었을 수 있으므로 목록을 다시 조회)
+     */
+    @DeleteMapping("/me/sessions/{sessionId}")
+    public ResponseEntity<?> revokeSession(@CurrentMember Member member, @PathVariable Long sessionId) {
+        if (member == null || member.getId() == null) {
+            return ResponseEntity.status(401).body(new ErrorResponse("Unauthorized"));
+        }
+        if (!tokenService.revokeSession(member.getId(), sessionId)) {
+            return ResponseEntity.status(404).body(new ErrorResponse("Session not found"));
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 모든 세션 로그아웃
+     * - 고정 경로: DELETE /api/me/sessions
+     * - 모든 refresh 토큰을 폐기하고, 이미 발급된 access 토큰(이 요청의 토큰 포함)도 무효화
+     */
+    @DeleteMapping("/me/sessions")
+    public ResponseEntity<?> revokeAllSessions(@CurrentMember Member member) {
+        if (member == null || member.getId() == null) {
+            return ResponseEntity.status(401).body(new ErrorResponse("Unauthorized"));
+        }
+        return ResponseEntity.ok(new RevokedSessionsResponse(tokenService.revokeAllFor(member.getId())));
+    }
+
     // --- 내부 DTO들 (별도 파일 없이 사용) ---
     public record MemberMeResponse(Long id, String email, String username) {}
     public record ErrorResponse(String error) {}
+    public record RevokedSessionsResponse(long revoked) {}
+
+    public record SessionResponse(Long id, String userAgent, String ip, Instant createdAt, Instant lastUsedAt,
+                                  Instant expiresAt, boolean current) {
+        static SessionResponse of(RefreshTokenRepository.SessionView session, boolean current) {
+            return new SessionResponse(session.getId(), session.getUserAgent(), session.getIp(), session.getStartedAt(),
+                    session.getLastUsedAt(), session.getExpiresAt(), current);
+        }
+    }
 }
@@ -4,13 +4,16 @@ package com.example.youthy.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
+
 @Entity
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Table(name = "member", indexes = {
-        @Index(name = "idx_member_kakao_id", columnList = "kakaoId", unique = true)
+        @Index(name = "idx_member_kakao_id", columnList = "kakaoId", unique = true),
+        @Index(name = "idx_member_tokens_revoked_at", columnList = "tokensRevokedAt")
 })
 public class Member {
 
@@ -26,4 +29,7 @@ public class Member {
 
     // 카카오 닉네임
     private String username;
+
+    // 이 시각 이전에 발급된 access 토큰은 모두 무효 (전체 로그아웃/이용 정지, TokenRevocationList 참고)
+    private Instant tokensRevokedAt;
 }
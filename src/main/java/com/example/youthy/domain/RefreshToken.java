@@ -8,8 +8,9 @@ import java.time.Instant;
 @Entity
 @Table(name = "refresh_token",
         indexes = {
-                @Index(name = "idx_ref_member", columnList = "memberId"),
-                @Index(name = "idx_ref_jti", columnList = "jti")
+                @Index(name = "idx_ref_member_active", columnList = "memberId, revoked, rotated, expiresAt"), // 회원별 활성 세션 조회
+                @Index(name = "idx_ref_jti", columnList = "jti"),
+                @Index(name = "idx_ref_token_hash", columnList = "tokenHash", unique = true) // 재발급/로그아웃 조회 키
         })
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
@@ -35,6 +36,9 @@ public class RefreshToken {
     private Instant createdAt;
     private Instant updatedAt;
 
+    /** 세션(로그인) 시작 시각. 재발급으로 회전된 토큰은 이전 토큰의 값을 이어받습니다. */
+    private Instant sessionStartedAt;
+
     /** plain 문자열 토큰을 컨트롤러/서비스로 전달하기 위한 일시적 필드 (DB에 저장 안 함) */
     @Transient
     private String token;
@@ -44,6 +48,7 @@ public class RefreshToken {
         Instant now = Instant.now();
         createdAt = now;
         updatedAt = now;
+        if (sessionStartedAt == null) sessionStartedAt = now;
     }
     @PreUpdate
     void preUpdate() { updatedAt = Instant.now(); }
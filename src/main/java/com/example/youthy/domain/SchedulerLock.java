@@ -0,0 +1,32 @@
+package com.example.youthy.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 여러 서버(레플리카)가 같은 DB를 공유할 때 예약 작업을 한 서버에서만 실행하기 위한 임대(lease) 잠금
+ * 잠금 한 개당 한 행이며, lockedUntil 이 지나면 다른 서버가 가져갈 수 있습니다.
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;         // 잠금 이름 (예: policy-sync)
+
+    @Column(nullable = false, length = 128)
+    private String owner;        // 잠금을 가진 서버 id
+
+    @Column(nullable = false)
+    private Instant lockedAt;    // 마지막으로 잠금을 가져간 시각
+
+    @Column(nullable = false)
+    private Instant lockedUntil; // 임대 만료 시각 (heartbeat 로 연장)
+}
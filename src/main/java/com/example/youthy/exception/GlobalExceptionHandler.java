@@ -1,5 +1,8 @@
 package com.example.youthy.exception;
 
+import com.example.youthy.chungheon.ExternalApiException;
+import com.example.youthy.chungheon.PolicySyncAlreadyRunningException;
+import com.example.youthy.chungheon2.PolicyNotFoundException;
 import com.example.youthy.dto.ApiError;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
@@ -29,6 +32,11 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.BAD_REQUEST, e.getMessage(), req);
     }
 
+    @ExceptionHandler(PolicyNotFoundException.class)
+    public ResponseEntity<ApiError> policyNotFound(PolicyNotFoundException e, HttpServletRequest req) {
+        return build(HttpStatus.NOT_FOUND, e.getMessage(), req);
+    }
+
     @ExceptionHandler(ExpiredJwtException.class)
     public ResponseEntity<ApiError> tokenExpired(ExpiredJwtException e, HttpServletRequest req) {
         return build(HttpStatus.UNAUTHORIZED, "Token expired", req);
@@ -39,6 +47,16 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.UNAUTHORIZED, "Invalid token", req);
     }
 
+    @ExceptionHandler(PolicySyncAlreadyRunningException.class)
+    public ResponseEntity<ApiError> syncAlreadyRunning(PolicySyncAlreadyRunningException e, HttpServletRequest req) {
+        return build(HttpStatus.CONFLICT, e.getMessage(), req);
+    }
+
+    @ExceptionHandler(ExternalApiException.class)
+    public ResponseEntity<ApiError> externalApiUnavailable(ExternalApiException e, HttpServletRequest req) {
+        return build(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), req);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> unknown(Exception e, HttpServletRequest req) {
         // 개발 중에는 메시지 노출, 운영에서는 로깅 후 일반화
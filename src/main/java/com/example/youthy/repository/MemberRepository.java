@@ -3,9 +3,37 @@ package com.example.youthy.repository;
 
 import com.example.youthy.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByKakaoId(Long kakaoId);
+
+    /**
+     * 토큰 폐기 프로젝션: 회원 id 와 폐기 시각만 담습니다.
+     */
+    interface RevocationView {
+        Long getId();
+        Instant getTokensRevokedAt();
+    }
+
+    /**
+     * since 이후에 토큰을 폐기한 회원들을 조회합니다. (그보다 오래된 폐기는 해당 access 토큰이 이미 만료되어 의미 없음)
+     */
+    @Query("select m.id as id, m.tokensRevokedAt as tokensRevokedAt from Member m where m.tokensRevokedAt > :since")
+    List<RevocationView> findRevokedSince(@Param("since") Instant since);
+
+    /**
+     * 회원의 토큰 폐기 시각을 기록합니다. (이 시각 이전에 발급된 access 토큰은 무효)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.tokensRevokedAt = :revokedAt where m.id = :memberId")
+    int markTokensRevoked(@Param("memberId") Long memberId, @Param("revokedAt") Instant revokedAt);
 }
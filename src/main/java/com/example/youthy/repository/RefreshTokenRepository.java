@@ -1,7 +1,12 @@
 package com.example.youthy.repository;
 
 import com.example.youthy.domain.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
@@ -12,5 +17,98 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     Optional<RefreshToken> findByTokenHash(String tokenHash);
     List<RefreshToken> findAllByMemberId(Long memberId);
     long deleteByMemberId(Long memberId);
-    long deleteByExpiresAtBefore(Instant t); // 청소용
+    long deleteByExpiresAtBefore(Instant t);
+
+    /**
+     * 회원의 아직 쓸 수 있는(회전/폐기되지 않은) 토큰을 한 번에 폐기합니다. (회전된 토큰은 이미 쓸 수 없으므로 건드리지 않음)
+     * @return 폐기한 행 수 (= 끝낸 세션 수)
+     */
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true, t.updatedAt = :now where t.memberId = :memberId and t.revoked = false and t.rotated = false")
+    int revokeAllByMemberId(@Param("memberId") Long memberId, @Param("now") Instant now);
+
+    /**
+     * 회원의 활성(회전/폐기/만료되지 않은) 세션(토큰) 하나를 폐기합니다. 다른 회원의 토큰은 바꾸지 않습니다.
+     * @return 폐기했으면 1, 없거나 이미 회전/폐기/만료된 토큰이면 0
+     */
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true, t.updatedAt = :now where t.id = :id and t.memberId = :memberId "
+            + "and t.revoked = false and t.rotated = false and t.expiresAt > :now")
+    int revokeByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId, @Param("now") Instant now);
+
+    /**
+     * 세션 목록 프로젝션: 활성 토큰 한 건이 세션 하나입니다.
+     * 재발급하면 토큰이 회전되므로, 현재 토큰의 발급 시각이 곧 마지막 사용 시각입니다.
+     */
+    interface SessionView {
+        Long getId();
+        String getTokenHash();
+        String getUserAgent();
+        String getIp();
+        Instant getStartedAt();
+        Instant getLastUsedAt();
+        Instant getExpiresAt();
+    }
+
+    /**
+     * 회원의 활성(회전/폐기/만료되지 않은) 세션을 최근 사용 순으로 조회합니다. (idx_ref_member_active)
+     */
+    @Query("select t.id as id, t.tokenHash as tokenHash, t.userAgent as userAgent, t.ip as ip, " +
+            "coalesce(t.sessionStartedAt, t.createdAt) as startedAt, t.createdAt as lastUsedAt, t.expiresAt as expiresAt " +
+            "from RefreshToken t where t.memberId = :memberId and t.revoked = false and t.rotated = false and t.expiresAt > :now " +
+            "order by t.createdAt desc")
+    List<SessionView> findActiveSessions(@Param("memberId") Long memberId, @Param("now") Instant now);
+
+    /**
+     * 청소 대상(만료되었거나, 회전/폐기된 지 cutoff 가 지난) 토큰 id 를 afterId 다음부터 id 순으로 찾습니다. (keyset 페이지)
+     * expiresAt/updatedAt 조건에는 인덱스가 없으므로 afterId 부터 PK 순으로 읽으며 대상 행을 pageable 크기만큼 찾을 때까지 훑습니다.
+     * 토큰은 id 순으로 발급되어 오래된(대상) 행이 앞쪽에 몰리므로 앞 배치는 금방 차지만, 마지막 배치는 남은 행을 끝까지 읽습니다.
+     * 즉 청소 한 번은 테이블을 한 번 훑는 비용이며, 청소로 테이블을 작게 유지하는 것을 전제로 합니다.
+     */
+    @Query("select t.id from RefreshToken t where t.id > :afterId " +
+            "and (t.expiresAt < :now or ((t.rotated = true or t.revoked = true) and t.updatedAt < :cutoff)) " +
+            "order by t.id")
+    List<Long> findPurgeableIds(@Param("afterId") long afterId, @Param("now") Instant now,
+                                @Param("cutoff") Instant cutoff, Pageable pageable);
+
+    /**
+     * DB 통계에 기록된 refresh_token 추정 행 수 (MySQL information_schema, 테이블을 읽지 않음)
+     * 실제 행 수와 크게 다를 수 있으므로 지표 용도로만 씁니다. 지원하지 않는 DB 에서는 예외가 납니다.
+     */
+    @Query(value = "select table_rows from information_schema.tables where table_schema = database() and table_name = 'refresh_token'",
+            nativeQuery = true)
+    Number estimateRowCount();
+
+    /**
+     * id 로 토큰을 지웁니다. (PK 로 지정한 행만 잠그므로 동시에 들어오는 로그인/재발급을 막지 않음)
+     */
+    @Modifying
+    @Query("delete from RefreshToken t where t.id in :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 아직 유효한(회전/폐기되지 않은) 토큰만 회전 처리합니다. 0 이면 다른 요청/서버가 먼저 회전했거나 폐기된 토큰입니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.rotated = true, t.updatedAt = :now where t.id = :id and t.rotated = false and t.revoked = false")
+    int markRotatedIfActive(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * 아직 유효한 토큰을 토큰 해시로 회전 처리합니다. (엔티티를 읽지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.rotated = true, t.updatedAt = :now where t.tokenHash = :tokenHash and t.rotated = false and t.revoked = false")
+    int markRotatedByTokenHashIfActive(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
+
+    /**
+     * 토큰 해시로 토큰을 폐기합니다. (해시 인덱스 조회, 엔티티를 읽지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true, t.updatedAt = :now where t.tokenHash = :tokenHash and t.revoked = false")
+    int revokeByTokenHash(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
 }
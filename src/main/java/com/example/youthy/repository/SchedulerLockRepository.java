@@ -0,0 +1,46 @@
+package com.example.youthy.repository;
+
+import com.example.youthy.domain.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 만료되었거나 이미 내 것인 잠금을 가져옵니다. 조건부 UPDATE 한 문장이라 동시에 시도해도 한 서버만 성공합니다.
+     * @return 가져왔으면 1, 다른 서버가 가지고 있거나 행이 없으면 0
+     */
+    @Modifying
+    @Query("update SchedulerLock l set l.owner = :owner, l.lockedAt = :now, l.lockedUntil = :until "
+            + "where l.name = :name and (l.lockedUntil <= :now or l.owner = :owner)")
+    int takeIfAvailable(@Param("name") String name, @Param("owner") String owner,
+                        @Param("now") Instant now, @Param("until") Instant until);
+
+    /**
+     * 잠금 행을 처음 만듭니다. 다른 서버가 먼저 만들었다면 기본 키 중복으로 실패합니다.
+     */
+    @Modifying
+    @Query(value = "insert into scheduler_lock (name, owner, locked_at, locked_until) values (:name, :owner, :now, :until)",
+            nativeQuery = true)
+    int insertLock(@Param("name") String name, @Param("owner") String owner,
+                   @Param("now") Instant now, @Param("until") Instant until);
+
+    /**
+     * 아직 내 것인 잠금의 임대 기간을 연장합니다. (heartbeat)
+     * @return 연장했으면 1, 다른 서버가 가져갔으면 0
+     */
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :until where l.name = :name and l.owner = :owner")
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("until") Instant until);
+
+    /**
+     * 내 잠금의 만료 시각을 releaseAt 으로 당겨, 그 뒤에 다른 서버가 가져갈 수 있게 합니다. (최소 보유 시간이 지났으면 지금)
+     */
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :releaseAt where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("releaseAt") Instant releaseAt);
+}
@@ -24,6 +24,7 @@ public class KakaoService {
 
     private final MemberRepository memberRepository;
     private final TokenService tokenService;
+    private final MemberSnapshotCache memberCache;
     private final RestTemplate restTemplate = new RestTemplate();
 
     @Value("${kakao.client.id}")
@@ -136,6 +137,7 @@ public class KakaoService {
                     m.setUsername(nickname);
                     return memberRepository.save(m);
                 });
+        memberCache.invalidate(member.getId()); // 인증 필터가 바뀐 닉네임/이메일을 바로 보도록
 
         // A) 회전 규칙까지 TokenService에 위임(권장)
         var pair = tokenService.rotateAndIssue(member, null, userAgent, ip);
@@ -0,0 +1,84 @@
+package com.example.youthy.service;
+
+import com.example.youthy.domain.Member;
+import com.example.youthy.repository.MemberRepository;
+import com.example.youthy.util.BoundedTtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 인증용 회원 스냅샷 캐시
+ * JwtAuthFilter 가 API 요청마다 member 테이블을 조회하지 않도록, 회원 id 별로 읽은 값을 잠시 보관합니다.
+ * - 크기(auth.member-cache.max-entries)와 TTL(auth.member-cache.ttl-seconds)로 제한합니다. 없는 회원은 저장하지 않습니다.
+ * - 이 서버에서 회원 정보가 바뀌면(KakaoService.processUser) 해당 항목을 바로 지우고, 다른 서버의 캐시는 TTL 안에 따라옵니다.
+ * - 캐시에는 불변 스냅샷을 두고 요청마다 새 Member(비영속) 객체로 꺼내 주므로, 요청 처리 중 값을 바꿔도 캐시에는 영향이 없습니다.
+ * 지표: cache.gets{result=hit|miss}, cache.evictions, cache.size (cache=auth-member)
+ */
+@Component
+public class MemberSnapshotCache {
+
+    private static final String CACHE_NAME = "auth-member";
+
+    private final MemberRepository memberRepository;
+    private final BoundedTtlCache<Long, Snapshot> cache;
+
+    private record Snapshot(Long id, Long kakaoId, String email, String username, Instant tokensRevokedAt) {
+
+        static Snapshot of(Member member) {
+            return new Snapshot(member.getId(), member.getKakaoId(), member.getEmail(), member.getUsername(), member.getTokensRevokedAt());
+        }
+
+        Member toMember() {
+            return Member.builder()
+                    .id(id)
+                    .kakaoId(kakaoId)
+                    .email(email)
+                    .username(username)
+                    .tokensRevokedAt(tokensRevokedAt)
+                    .build();
+        }
+    }
+
+    public MemberSnapshotCache(MemberRepository memberRepository,
+                               MeterRegistry registry,
+                               @Value("${auth.member-cache.max-entries:10000}") int maxEntries,
+                               @Value("${auth.member-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.cache = new BoundedTtlCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+
+        FunctionCounter.builder("cache.gets", cache, BoundedTtlCache::hitCount)
+                .tag("cache", CACHE_NAME).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", cache, BoundedTtlCache::missCount)
+                .tag("cache", CACHE_NAME).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", cache, BoundedTtlCache::evictionCount)
+                .tag("cache", CACHE_NAME).register(registry);
+        Gauge.builder("cache.size", cache, BoundedTtlCache::size)
+                .tag("cache", CACHE_NAME).register(registry);
+    }
+
+    /**
+     * 회원을 찾습니다. 캐시에 없으면 DB에서 읽어 저장합니다.
+     * @param memberId 회원 id
+     * @return 요청마다 새로 만든 비영속 Member, 없는 회원이면 empty
+     */
+    public Optional<Member> find(Long memberId) {
+        Snapshot snapshot = cache.getOrLoad(memberId, id -> memberRepository.findById(id).map(Snapshot::of).orElse(null));
+        return Optional.ofNullable(snapshot).map(Snapshot::toMember);
+    }
+
+    /**
+     * 회원 정보가 바뀌었을 때 호출합니다. 다음 요청은 DB에서 다시 읽습니다.
+     */
+    public void invalidate(Long memberId) {
+        if (memberId != null) {
+            cache.invalidate(memberId);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.youthy.service;
+
+import com.example.youthy.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * refresh 토큰 청소 작업
+ * 로그인/재발급마다 행이 하나씩 쌓이므로, 다시 쓸 수 없는 토큰을 주기적으로 지워 테이블과 인덱스가 끝없이 커지지 않게 합니다.
+ * - 대상: 만료된 토큰, 회전/폐기된 지 auth.refresh-purge.retention-hours 가 지난 토큰 (재사용 시도 추적을 위해 잠시 남겨 둠)
+ * - id 순 keyset 배치(auth.refresh-purge.batch-size)로 찾고 지우며, 배치마다 짧은 트랜잭션을 씁니다.
+ *   PK 로 지정한 행만 지우므로 새 토큰 INSERT 나 다른 토큰의 회전을 막지 않고, 배치 사이에 잠시 쉬어 DB 부하를 나눕니다.
+ *   대상 조건에는 인덱스가 없어 한 번 실행하면 테이블을 PK 순으로 한 번 훑습니다. (RefreshTokenRepository.findPurgeableIds 참고)
+ * - 여러 서버 중 DB 잠금(LOCK_NAME)을 얻은 한 곳에서만 실행합니다.
+ * 지표: auth.refresh-tokens.purged, auth.refresh-tokens.purge (실행 시간),
+ *       auth.refresh-tokens.rows (마지막 실행 후 추정 행 수, DB 통계값이라 테이블을 다시 훑지 않음)
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurger {
+
+    private static final String LOCK_NAME = "refresh-token-purge";
+
+    private final RefreshTokenRepository refreshRepo;
+    private final SchedulerLockService lockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+    private final long batchPauseMillis;
+
+    private final Counter purged;
+    private final Timer runTimer;
+    private final AtomicLong rows = new AtomicLong(-1); // 아직 실행 전이면 -1
+    private volatile boolean rowEstimateSupported = true; // DB 가 추정 행 수를 주지 않으면 COUNT(*) 로 대신함
+
+    public RefreshTokenPurger(RefreshTokenRepository refreshRepo,
+                              SchedulerLockService lockService,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry registry,
+                              @Value("${auth.refresh-purge.batch-size:500}") int batchSize,
+                              @Value("${auth.refresh-purge.retention-hours:24}") long retentionHours,
+                              @Value("${auth.refresh-purge.batch-pause-ms:50}") long batchPauseMillis) {
+        this.refreshRepo = refreshRepo;
+        this.lockService = lockService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.retention = Duration.ofHours(retentionHours);
+        this.batchPauseMillis = batchPauseMillis;
+
+        this.purged = Counter.builder("auth.refresh-tokens.purged")
+                .description("Expired, rotated or revoked refresh tokens deleted")
+                .register(registry);
+        this.runTimer = Timer.builder("auth.refresh-tokens.purge")
+                .description("Duration of a refresh token purge run")
+                .register(registry);
+        Gauge.builder("auth.refresh-tokens.rows", rows, AtomicLong::get)
+                .description("Estimated refresh token rows after the last purge run")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-purge.interval-ms:3600000}", initialDelayString = "${auth.refresh-purge.initial-delay-ms:60000}")
+    public void scheduledPurge() {
+        try {
+            if (!lockService.runWithLock(LOCK_NAME, this::purge)) {
+                log.debug("Skip refresh token purge: another node holds the {} lock.", LOCK_NAME);
+            }
+        } catch (RuntimeException e) {
+            log.error("Refresh token purge failed.", e);
+        }
+    }
+
+    /**
+     * 청소 대상을 배치로 모두 지웁니다. (잠금 없이 호출하면 이 서버에서만 실행됨)
+     * @return 지운 행 수
+     */
+    public long purge() {
+        return runTimer.record(() -> {
+            Instant now = Instant.now();
+            Instant cutoff = now.minus(retention);
+            long total = 0;
+            long afterId = 0;
+            while (true) {
+                long from = afterId;
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> batch = refreshRepo.findPurgeableIds(from, now, cutoff, PageRequest.of(0, batchSize));
+                    if (!batch.isEmpty()) {
+                        refreshRepo.deleteAllByIds(batch);
+                    }
+                    return batch;
+                });
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                total += ids.size();
+                purged.increment(ids.size());
+                afterId = ids.get(ids.size() - 1);
+                if (ids.size() < batchSize) {
+                    break;
+                }
+                if (!pause()) {
+                    break;
+                }
+            }
+            rows.set(estimateRows());
+            if (total > 0) {
+                log.info("Purged {} refresh tokens; {} remain.", total, rows.get());
+            }
+            return total;
+        });
+    }
+
+    /**
+     * 남은 행 수를 DB 통계의 추정값으로 구합니다. 추정값을 지원하지 않는 DB(H2 등)에서는 COUNT(*) 로 셉니다.
+     */
+    private long estimateRows() {
+        if (rowEstimateSupported) {
+            try {
+                Number estimate = refreshRepo.estimateRowCount();
+                if (estimate != null) {
+                    return estimate.longValue();
+                }
+            } catch (RuntimeException e) {
+                log.info("Row estimate is not available; counting refresh tokens instead: {}", e.getMessage());
+            }
+            rowEstimateSupported = false;
+        }
+        return refreshRepo.count();
+    }
+
+    private boolean pause() {
+        if (batchPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
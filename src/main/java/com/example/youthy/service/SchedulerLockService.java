@@ -0,0 +1,224 @@
+package com.example.youthy.service;
+
+import com.example.youthy.repository.SchedulerLockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 임대(lease) 잠금으로 여러 서버 중 한 곳에서만 예약 작업을 실행하게 합니다. (별도 코디네이터 불필요)
+ * - 획득: 만료되었거나 내 것인 잠금만 조건부 UPDATE 로 가져오고, 행이 없으면 INSERT 합니다.
+ * - 유지: 잠금을 가진 동안 임대 기간의 1/3 마다 heartbeat 로 만료 시각을 연장합니다.
+ * - 인계: 잠금을 가진 서버가 죽으면 heartbeat 가 멈추고, 임대가 만료된 뒤 다른 서버가 가져갑니다.
+ * - 최소 보유: 작업이 일찍 끝나도 잠금은 획득 후 scheduler.lock.min-hold-seconds 까지 유지됩니다.
+ *   서버마다 시계/스케줄러가 조금씩 어긋나 같은 예약(예: 04:00 동기화)이 늦게 발화한 서버가, 이미 끝난 작업을 다시 실행하지 않게 하기 위해서입니다.
+ *   (같은 서버는 보유 중인 잠금을 다시 가져갈 수 있으므로, 이 서버의 다음 실행은 막지 않음)
+ * 만료 판단은 각 서버의 시계를 사용하므로, 서버 간 시계 오차는 임대 기간보다 충분히 작아야 합니다. (NTP 동기화 전제)
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository lockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration defaultLease;
+    private final Duration minHold;
+    private final String nodeId;
+    private final ScheduledExecutorService heartbeat =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("scheduler-lock-"));
+    private final Set<Lease> heldLeases = ConcurrentHashMap.newKeySet();
+
+    public SchedulerLockService(SchedulerLockRepository lockRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${scheduler.lock.lease-seconds:120}") long leaseSeconds,
+                                @Value("${scheduler.lock.min-hold-seconds:300}") long minHoldSeconds,
+                                @Value("${scheduler.lock.node-id:}") String nodeId) {
+        this.lockRepository = lockRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.defaultLease = Duration.ofSeconds(leaseSeconds);
+        this.minHold = Duration.ofSeconds(minHoldSeconds);
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : defaultNodeId();
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행합니다. (다른 서버가 실행 중이면 바로 false 반환)
+     * @param name 잠금 이름
+     * @param task 실행할 작업
+     * @return 작업을 실행했으면 true
+     */
+    public boolean runWithLock(String name, Runnable task) {
+        return runWithLock(name, defaultLease, task);
+    }
+
+    public boolean runWithLock(String name, Duration leaseDuration, Runnable task) {
+        Optional<Lease> lease = tryAcquire(name, leaseDuration, () -> {
+        });
+        if (lease.isEmpty()) {
+            return false;
+        }
+        try (Lease ignored = lease.get()) {
+            task.run();
+        }
+        return true;
+    }
+
+    /**
+     * 잠금을 시도하고, 얻었다면 heartbeat 가 붙은 Lease 를 돌려줍니다. 작업이 끝나면 반드시 close() 해야 합니다.
+     * @param name 잠금 이름
+     * @param leaseDuration 임대 기간 (heartbeat 가 멈추면 이 시간 뒤에 다른 서버가 가져갈 수 있음)
+     * @param onLost 연장에 실패해 잠금을 잃었을 때 호출할 콜백 (heartbeat 스레드에서 호출됨)
+     * @return 얻었으면 Lease, 다른 서버가 가지고 있으면 empty
+     */
+    public Optional<Lease> tryAcquire(String name, Duration leaseDuration, Runnable onLost) {
+        Instant now = Instant.now();
+        Instant until = now.plus(leaseDuration);
+        if (!take(name, now, until)) {
+            log.debug("Lock {} is held by another node.", name);
+            return Optional.empty();
+        }
+        Lease lease = new Lease(name, leaseDuration, now, until, onLost);
+        long period = Math.max(1, leaseDuration.toMillis() / 3);
+        lease.heartbeatTask = heartbeat.scheduleAtFixedRate(lease::renew, period, period, TimeUnit.MILLISECONDS);
+        heldLeases.add(lease);
+        log.info("Acquired lock {} as {} until {}", name, nodeId, until);
+        return Optional.of(lease);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private boolean take(String name, Instant now, Instant until) {
+        Integer updated = transactionTemplate.execute(status -> lockRepository.takeIfAvailable(name, nodeId, now, until));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        if (lockRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> lockRepository.insertLock(name, nodeId, now, until));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false; // 다른 서버가 먼저 행을 만들고 잠금을 가져감
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heldLeases.forEach(Lease::close);
+        heartbeat.shutdownNow();
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 획득한 잠금 한 건. close() 하면 heartbeat 를 멈추고 잠금을 반납합니다. (최소 보유 시간 전이면 그때까지 다른 서버는 가져갈 수 없음)
+     */
+    public class Lease implements AutoCloseable {
+
+        private final String name;
+        private final Duration duration;
+        private final Instant acquiredAt;
+        private final Runnable onLost;
+        private volatile Instant expiresAt;
+        private volatile boolean held = true;
+        private volatile ScheduledFuture<?> heartbeatTask;
+
+        private Lease(String name, Duration duration, Instant acquiredAt, Instant expiresAt, Runnable onLost) {
+            this.name = name;
+            this.duration = duration;
+            this.acquiredAt = acquiredAt;
+            this.expiresAt = expiresAt;
+            this.onLost = onLost;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isHeld() {
+            return held;
+        }
+
+        private void renew() {
+            if (!held) {
+                return;
+            }
+            Instant until = Instant.now().plus(duration);
+            try {
+                Integer renewed = transactionTemplate.execute(status -> lockRepository.renew(name, nodeId, until));
+                if (renewed != null && renewed > 0) {
+                    expiresAt = until;
+                    return;
+                }
+                log.error("Lock {} was taken over by another node.", name);
+            } catch (RuntimeException e) {
+                if (Instant.now().isBefore(expiresAt)) {
+                    log.warn("Failed to renew lock {}; retrying until the lease expires at {}: {}", name, expiresAt, e.getMessage());
+                    return;
+                }
+                log.error("Lost lock {}: lease expired while the database was unreachable.", name, e);
+            }
+            lost();
+        }
+
+        private void lost() {
+            held = false;
+            stopHeartbeat();
+            heldLeases.remove(this);
+            onLost.run();
+        }
+
+        private void stopHeartbeat() {
+            ScheduledFuture<?> task = heartbeatTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+
+        @Override
+        public void close() {
+            stopHeartbeat();
+            heldLeases.remove(this);
+            if (!held) {
+                return;
+            }
+            held = false;
+            Instant now = Instant.now();
+            Instant holdUntil = acquiredAt.plus(minHold);
+            Instant releaseAt = holdUntil.isAfter(now) ? holdUntil : now; // 최소 보유 시간 전이면 그때까지 유지
+            try {
+                transactionTemplate.executeWithoutResult(status -> lockRepository.release(name, nodeId, releaseAt));
+                log.info("Released lock {} (available to other nodes from {})", name, releaseAt);
+            } catch (RuntimeException e) {
+                log.warn("Failed to release lock {}; it will expire at {}: {}", name, expiresAt, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.youthy.service;
+
+import com.example.youthy.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * access 토큰 폐기 목록 (회원 단위)
+ * 회원의 tokensRevokedAt 이전에 발급된 access 토큰은 서명이 유효해도 거부합니다. (전체 로그아웃, 이용 정지)
+ * - DB 조회 없이 판단하도록 "회원 id → 폐기 시각(epoch ms)" 을 메모리에 두고, auth.revocation.refresh-ms 마다 DB에서 다시 읽습니다.
+ *   다른 서버에서 폐기해도 한 주기(기본 5초) 안에 반영되고, 이 서버에서 폐기하면 즉시 반영됩니다.
+ * - access 토큰 유효기간(jwt.access-validity-seconds)보다 오래된 폐기는 그 전에 발급된 토큰이 모두 만료되었으므로 읽지 않습니다.
+ *   그래서 목록에는 최근 유효기간 동안 폐기한 회원만 남습니다.
+ * 발급 시각은 밀리초 클레임(TokenService.ISSUED_AT_MILLIS_CLAIM)으로 비교하므로, 폐기 직후 같은 초에 다시 로그인해 받은 토큰은 거부되지 않습니다.
+ * (밀리초 클레임이 없는 예전 토큰은 초 단위 iat 로 비교)
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final MemberRepository memberRepository;
+    private final Duration window;
+
+    private volatile Map<Long, Long> revokedAtByMember = Map.of();
+
+    public TokenRevocationList(MemberRepository memberRepository,
+                               @Value("${jwt.access-validity-seconds:3600}") long accessTtlSeconds) {
+        this.memberRepository = memberRepository;
+        this.window = Duration.ofSeconds(accessTtlSeconds).plus(CLOCK_SKEW);
+    }
+
+    /**
+     * 회원의 토큰이 폐기되었는지 확인합니다. (DB 접근 없음)
+     * @param memberId 토큰의 회원 id
+     * @param issuedAtMillis 토큰 발급 시각 (epoch ms, 없으면 null)
+     * @return 폐기 시각 이전에 발급된 토큰이면 true
+     */
+    public boolean isRevoked(Long memberId, Long issuedAtMillis) {
+        Long revokedAt = revokedAtByMember.get(memberId);
+        if (revokedAt == null) {
+            return false;
+        }
+        return issuedAtMillis == null || issuedAtMillis < revokedAt;
+    }
+
+    /**
+     * 이 서버에서 폐기한 내용을 바로 반영합니다. (DB 기록은 호출한 쪽에서 먼저 합니다)
+     */
+    public synchronized void revoke(Long memberId, Instant revokedAt) {
+        Map<Long, Long> updated = new HashMap<>(revokedAtByMember);
+        updated.merge(memberId, revokedAt.toEpochMilli(), Math::max);
+        revokedAtByMember = updated;
+    }
+
+    public int size() {
+        return revokedAtByMember.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * 최근 유효기간 안에 폐기된 회원을 DB에서 다시 읽습니다. 실패하면 이전 목록을 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.refresh-ms:5000}", initialDelayString = "${auth.revocation.refresh-ms:5000}")
+    public void refresh() {
+        long since = Instant.now().minus(window).toEpochMilli();
+        Map<Long, Long> loaded = new HashMap<>();
+        try {
+            memberRepository.findRevokedSince(Instant.ofEpochMilli(since))
+                    .forEach(view -> loaded.merge(view.getId(), view.getTokensRevokedAt().toEpochMilli(), Math::max));
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh the token revocation list; keeping {} entries: {}", size(), e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            // 조회하는 사이에 이 서버에서 폐기한 항목은 잃지 않도록 합칩니다.
+            revokedAtByMember.forEach((memberId, revokedAt) -> {
+                if (revokedAt > since) {
+                    loaded.merge(memberId, revokedAt, Math::max);
+                }
+            });
+            revokedAtByMember = loaded;
+        }
+    }
+}
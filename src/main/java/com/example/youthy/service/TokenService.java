@@ -3,17 +3,29 @@ package com.example.youthy.service;
 import com.example.youthy.dto.Tokens; // ★ DTO 사용
 import com.example.youthy.domain.Member;
 import com.example.youthy.domain.RefreshToken;
+import com.example.youthy.repository.MemberRepository;
 import com.example.youthy.repository.RefreshTokenRepository;
 import com.example.youthy.util.HashUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.SerializationException;
+import io.jsonwebtoken.io.Serializer;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,6 +34,12 @@ import java.util.UUID;
 public class TokenService {
 
     private final RefreshTokenRepository refreshRepo;
+    private final MemberRepository memberRepository;
+    private final MemberSnapshotCache memberCache;
+    private final TokenRevocationList revocations;
+
+    /** 발급 시각(epoch ms) 클레임. 표준 iat 는 초 단위라, 전체 로그아웃과 같은 초에 다시 로그인한 토큰까지 폐기로 보이기 때문 */
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
 
     @Value("${jwt.secret}")
     private String jwtSecret;
@@ -32,24 +50,51 @@ public class TokenService {
     @Value("${jwt.refresh-validity-seconds:1209600}") // 14d
     private long refreshTtl;
 
+    // JJWT 0.11 은 serializer 를 지정하지 않으면 발급(compact)할 때마다 ServiceLoader 로 찾으므로, 하나를 만들어 재사용합니다.
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Serializer<Map<String, ?>> CLAIMS_SERIALIZER = claims -> {
+        try {
+            return JSON.writeValueAsBytes(claims);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Unable to serialize JWT claims", e);
+        }
+    };
+
+    private Key signingKey; // 서명 키는 한 번만 만들어 재사용 (발급마다 키를 다시 만들지 않음)
+
+    @PostConstruct
+    void initSigningKey() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
     /** 새 Access 생성 */
     public String createAccess(Member m, long customTtlSeconds) {
         long ttl = (customTtlSeconds > 0) ? customTtlSeconds : accessTtl;
         Instant now = Instant.now();
         return Jwts.builder()
+                .serializeToJsonWith(CLAIMS_SERIALIZER)
                 .setSubject(String.valueOf(m.getKakaoId() != null ? m.getKakaoId() : m.getId()))
                 .claim("memberId", m.getId())
                 .claim("id", m.getId())
                 .claim("kakaoId", m.getKakaoId())
                 .claim("username", m.getUsername())
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.toEpochMilli())
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(now.plusSeconds(ttl)))
-                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .signWith(signingKey)
                 .compact();
     }
 
     /** Refresh 토큰 생성 + 저장 */
     public String mintRefresh(Member m, String userAgent, String ip) {
+        return mintRefresh(m, userAgent, ip, null);
+    }
+
+    /**
+     * Refresh 토큰 생성 + 저장
+     * @param sessionStartedAt 이어 갈 세션의 시작 시각 (새 로그인이면 null)
+     */
+    private String mintRefresh(Member m, String userAgent, String ip, Instant sessionStartedAt) {
         String jti = UUID.randomUUID().toString();
         Instant exp = Instant.now().plusSeconds(refreshTtl);
 
@@ -65,6 +110,7 @@ public class TokenService {
                 .expiresAt(exp)
                 .revoked(false)
                 .rotated(false)
+                .sessionStartedAt(sessionStartedAt)
                 .build();
         refreshRepo.save(entity);
         return refresh;
@@ -73,44 +119,79 @@ public class TokenService {
     /** 회전 발급 */
     public Tokens rotateAndIssue(Member m, String oldRefreshOrNull, String userAgent, String ip) {
         if (oldRefreshOrNull != null && oldRefreshOrNull.startsWith("rt_")) {
-            String oldHash = HashUtil.sha256(oldRefreshOrNull);
-            refreshRepo.findByTokenHash(oldHash).ifPresent(rt -> {
-                rt.setRotated(true);
-                refreshRepo.save(rt);
-            });
+            refreshRepo.markRotatedByTokenHashIfActive(HashUtil.sha256(oldRefreshOrNull), Instant.now()); // 조회 없이 조건부 UPDATE 한 번
         }
         String access = createAccess(m, accessTtl);
         String refresh = mintRefresh(m, userAgent, ip);
         return new Tokens(access, refresh); // ★ DTO 반환
     }
 
-    /** 재발급 */
+    /**
+     * 재발급: refresh 토큰을 회전하고 새 access/refresh 토큰을 발급합니다.
+     * 회전은 조건부 UPDATE 로 하므로, 같은 refresh 토큰으로 동시에 들어온 요청 중 하나만 성공합니다.
+     */
     public Tokens refresh(String providedRefresh, String userAgent, String ip) {
         RefreshToken rt = validateRefreshToken(providedRefresh);
-        // 최소 정보 Member
-        Member temp = Member.builder().id(rt.getMemberId()).username("unknown").build();
-        return rotateAndIssue(temp, providedRefresh, userAgent, ip);
+        if (!markRotated(rt)) {
+            throw new IllegalStateException("Refresh token is no longer valid");
+        }
+        // access 토큰의 kakaoId/username 클레임을 채우기 위해 회원을 읽습니다. (인증 필터와 같은 캐시 사용)
+        Member member = memberCache.find(rt.getMemberId())
+                .orElseGet(() -> Member.builder().id(rt.getMemberId()).username("unknown").build());
+        Instant sessionStartedAt = rt.getSessionStartedAt() != null ? rt.getSessionStartedAt() : rt.getCreatedAt();
+        return new Tokens(createAccess(member, accessTtl), mintRefresh(member, userAgent, ip, sessionStartedAt));
     }
 
+    /**
+     * 회원의 모든 refresh 토큰을 폐기하고, 이미 발급된 access 토큰도 무효로 표시합니다. (전체 로그아웃, 이용 정지)
+     * 두 UPDATE 는 한 트랜잭션이라 access 토큰만 폐기되고 refresh 토큰은 살아 있는 상태로 끝나지 않습니다.
+     * 메모리 폐기 목록은 커밋된 뒤에 반영합니다. (롤백되면 반영하지 않음)
+     */
+    @Transactional
     public long revokeAllFor(Long memberId) {
-        var all = refreshRepo.findAllByMemberId(memberId);
-        long cnt = 0;
-        for (RefreshToken rt : all) {
-            if (!rt.isRevoked()) {
-                rt.setRevoked(true);
-                refreshRepo.save(rt);
-                cnt++;
+        Instant now = Instant.now();
+        memberRepository.markTokensRevoked(memberId, now);
+        int revoked = refreshRepo.revokeAllByMemberId(memberId, now);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revocations.revoke(memberId, now); // 이 서버는 즉시, 다른 서버는 auth.revocation.refresh-ms 안에 반영
             }
-        }
-        return cnt;
+        });
+        return revoked;
+    }
+
+    /**
+     * 회원의 활성 세션 목록 (최근 사용 순)
+     */
+    public List<RefreshTokenRepository.SessionView> findActiveSessions(Long memberId) {
+        return refreshRepo.findActiveSessions(memberId, Instant.now());
+    }
+
+    /**
+     * 회원의 세션 하나를 폐기합니다. 그 세션의 refresh 토큰은 더 이상 재발급에 쓸 수 없습니다.
+     * (이미 발급된 access 토큰은 만료될 때까지 유효합니다. 모두 끊으려면 revokeAllFor)
+     * 조회 없이 조건부 UPDATE 한 번으로 폐기합니다.
+     * @return 폐기했으면 true, 회원의 활성 세션이 아니면 false
+     */
+    public boolean revokeSession(Long memberId, Long sessionId) {
+        return refreshRepo.revokeByIdAndMemberId(sessionId, memberId, Instant.now()) > 0;
     }
 
     public void revokeOneByRefresh(String refresh) {
-        String hash = HashUtil.sha256(refresh);
-        refreshRepo.findByTokenHash(hash).ifPresent(rt -> {
-            rt.setRevoked(true);
-            refreshRepo.save(rt);
-        });
+        refreshRepo.revokeByTokenHash(HashUtil.sha256(refresh), Instant.now());
+    }
+
+    /**
+     * 아직 유효한 토큰만 회전 처리합니다. (조건부 UPDATE 라서 같은 토큰으로 동시에 들어온 요청 중 하나만 성공)
+     * @return 회전했으면 true, 이미 회전/폐기된 토큰이면 false
+     */
+    private boolean markRotated(RefreshToken token) {
+        boolean rotated = refreshRepo.markRotatedIfActive(token.getId(), Instant.now()) > 0;
+        if (rotated) {
+            token.setRotated(true);
+        }
+        return rotated;
     }
 
     private static String safe(String s) {
@@ -136,6 +217,7 @@ public class TokenService {
             throw new IllegalArgumentException("Refresh token missing or malformed");
         }
         String hash = HashUtil.sha256(providedRefresh);
+        // 토큰은 한 번 쓰이면 회전되므로 캐시하지 않고, 해시 유니크 인덱스(idx_ref_token_hash)로 한 건 조회합니다.
         RefreshToken rt = refreshRepo.findByTokenHash(hash)
                 .orElseThrow(() -> new IllegalArgumentException("Refresh token not found"));
 
@@ -147,8 +229,7 @@ public class TokenService {
 
     // 기존 이름: rotateRefreshToken (주의: 실제 사용처에 맞게 유지/정리)
     public RefreshToken rotateRefreshToken(RefreshToken validRt, Member m) {
-        validRt.setRotated(true);
-        refreshRepo.save(validRt);
+        markRotated(validRt);
 
         // 새로운 refresh 발급 (DB 저장은 mintRefresh에서 처리)
         String newPlain = mintRefresh(m, null, null);
@@ -0,0 +1,95 @@
+package com.example.youthy.util;
+
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 외부 API 신청기간(aplyYmd) 문자열을 한 번만 해석한 결과입니다.
+ * 수집 시 이 값을 YouthPolicy 의 시작일/마감일/상시 컬럼에 저장하고, 조회 쪽은 문자열 대신 컬럼을 읽습니다.
+ * @param startDate 가장 이른 신청 시작일 (없으면 null)
+ * @param endDate 가장 늦은 신청 마감일 (없으면 null)
+ * @param alwaysOpen 상시 모집 여부 (빈 값 또는 "상시" 포함)
+ * @param parseFailed 날짜 형식을 해석하지 못했는지 여부
+ */
+public record ApplicationPeriod(LocalDate startDate, LocalDate endDate, boolean alwaysOpen, boolean parseFailed) {
+
+    private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern("uuuuMMdd")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    private static final ApplicationPeriod ALWAYS_OPEN = new ApplicationPeriod(null, null, true, false);
+    private static final ApplicationPeriod UNKNOWN = new ApplicationPeriod(null, null, false, true);
+
+    /**
+     * 신청기간 문자열을 해석합니다.
+     * - "20250601 ~ 20251130": 시작일 ~ 마감일
+     * - "20251130": 마감일만 있는 경우
+     * - "20250805 ~ 20250822\N20250301 ~ 20251231": 여러 기간이 \N(또는 줄바꿈)으로 이어진 경우, 가장 이른 시작일 ~ 가장 늦은 마감일
+     * - 빈 값, "상시": 상시 모집
+     * @param raw aplyYmd 원본 문자열
+     * @return 해석 결과 (형식을 알 수 없으면 parseFailed = true)
+     */
+    public static ApplicationPeriod parse(String raw) {
+        if (!StringUtils.hasText(raw) || raw.contains("상시")) {
+            return ALWAYS_OPEN;
+        }
+        LocalDate start = null;
+        LocalDate end = null;
+        try {
+            for (String period : raw.trim().replace("\\N", "\n").split("\n")) {
+                if (!StringUtils.hasText(period)) {
+                    continue;
+                }
+                int tilde = period.indexOf('~');
+                LocalDate periodStart = tilde >= 0 ? parseDate(period.substring(0, tilde)) : null;
+                LocalDate periodEnd = parseDate(tilde >= 0 ? period.substring(tilde + 1) : period);
+                if (periodStart != null && (start == null || periodStart.isBefore(start))) {
+                    start = periodStart;
+                }
+                if (periodEnd != null && (end == null || periodEnd.isAfter(end))) {
+                    end = periodEnd;
+                }
+            }
+        } catch (DateTimeParseException e) {
+            return UNKNOWN;
+        }
+        return end == null ? UNKNOWN : new ApplicationPeriod(start, end, false, false);
+    }
+
+    /**
+     * 주어진 날짜에 아직 마감되지 않았는지 여부 (형식을 알 수 없는 경우에도 일단 유효한 것으로 봅니다)
+     */
+    public boolean isOpenOn(LocalDate date) {
+        return alwaysOpen || endDate == null || !endDate.isBefore(date);
+    }
+
+    /**
+     * 저장된 시작일/마감일/상시 값으로 D-Day 문구를 만듭니다.
+     * @return "D-7", "D-Day", "마감", "상시", "정보 확인 필요" 중 하나
+     */
+    public static String dDay(LocalDate endDate, boolean alwaysOpen, LocalDate today) {
+        if (alwaysOpen) {
+            return "상시";
+        }
+        if (endDate == null) {
+            return "정보 확인 필요";
+        }
+        long daysLeft = ChronoUnit.DAYS.between(today, endDate);
+        if (daysLeft < 0) {
+            return "마감";
+        } else if (daysLeft == 0) {
+            return "D-Day";
+        } else {
+            return "D-" + daysLeft;
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : LocalDate.parse(trimmed, YYYYMMDD);
+    }
+}
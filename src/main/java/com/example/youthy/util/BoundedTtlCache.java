@@ -0,0 +1,116 @@
+package com.example.youthy.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기 상한(LRU)과 TTL 을 함께 적용하는 단순한 인메모리 캐시입니다.
+ * - 항목 수가 maxSize 를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * - 저장 후 ttl 이 지난 항목은 조회 시 없는 것으로 보고 제거합니다.
+ * - 적중/미적중/제거 횟수를 세어 두므로 Micrometer 지표로 노출할 수 있습니다.
+ * 모든 연산은 내부 잠금 하나로 직렬화되며, getOrLoad 의 loader 는 잠금 밖에서 실행됩니다.
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedTtlCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return 캐시된 값, 없거나 만료되었으면 null
+     */
+    public V get(K key) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAtNanos - now > 0) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(K key, V value) {
+        Entry<V> entry = new Entry<>(value, System.nanoTime() + ttlNanos);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * 캐시에 있으면 그 값을, 없으면 loader 로 만든 값을 저장하고 돌려줍니다.
+     * loader 가 null 을 반환하면 저장하지 않습니다.
+     */
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+}
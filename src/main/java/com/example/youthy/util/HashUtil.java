@@ -2,19 +2,41 @@ package com.example.youthy.util;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 public final class HashUtil {
     private HashUtil() {}
 
-    public static String sha256(String s) {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // MessageDigest 는 스레드 안전하지 않으므로 스레드마다 하나씩 만들어 재사용합니다. (getInstance 의 provider 조회 비용 제거)
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] dig = md.digest(s.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(dig.length * 2);
-            for (byte b : dig) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /**
+     * SHA-256 해시를 소문자 16진수 문자열(64자)로 돌려줍니다.
+     */
+    public static String sha256(String s) {
+        MessageDigest md = SHA_256.get();
+        byte[] dig = md.digest(s.getBytes(StandardCharsets.UTF_8)); // digest() 는 끝나면 상태를 초기화함
+        return toHex(dig);
+    }
+
+    /**
+     * 바이트 배열을 소문자 16진수 문자열로 바꿉니다. (바이트마다 String.format 으로 문자열을 만들지 않음)
+     */
+    public static String toHex(byte[] bytes) {
+        char[] out = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xff;
+            out[i * 2] = HEX[v >>> 4];
+            out[i * 2 + 1] = HEX[v & 0x0f];
         }
+        return new String(out);
     }
 }
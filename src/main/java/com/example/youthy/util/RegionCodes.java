@@ -0,0 +1,105 @@
+package com.example.youthy.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 거주지역 코드(법정동 시군구 코드 5자리) 범위 규칙
+ * - 시군구: "11110" (앞 2자리가 시도 코드)
+ * - 시도 전체: 시도 코드 + "000" (예: "11000" 서울 전체)
+ * - 전국: "00000"
+ * 같은 시도의 코드는 "SS000" ~ "SS999" 범위에 모이므로, 시도 단위 조회는 인덱스 범위 조회 한 번으로 끝납니다.
+ * 시도 전체/전국 코드는 외부 API 가 직접 보낸 경우에만 씁니다. 시도의 시군구를 모두 나열한 정책도 시군구마다 한 행씩 저장합니다.
+ * (시도별 시군구 전체 목록을 가진 공식 표가 없어 목록이 완전한지 판단할 수 없고, 잘못 넓히면 대상이 아닌 사용자에게 정책이 노출되기 때문)
+ */
+public final class RegionCodes {
+
+    public static final String NATIONWIDE = "00000";
+
+    private RegionCodes() {
+    }
+
+    /**
+     * 5자리 숫자 코드인지 여부
+     */
+    public static boolean isValid(String code) {
+        return code != null && code.length() == 5 && code.chars().allMatch(Character::isDigit);
+    }
+
+    public static String sidoOf(String code) {
+        return code.substring(0, 2);
+    }
+
+    /**
+     * 시도 전체를 뜻하는 코드 (예: "11" -> "11000")
+     */
+    public static String sidoScope(String sido) {
+        return sido + "000";
+    }
+
+    public static boolean isSidoScope(String code) {
+        return !NATIONWIDE.equals(code) && code.endsWith("000");
+    }
+
+    /**
+     * 이 지역에 사는 사람이 받을 수 있는 정책의 거주지역 코드들 (자기 자신 + 상위 시도 + 전국)
+     * @param code 시군구 코드, 시도 전체 코드 또는 시도 코드 2자리
+     */
+    public static List<String> scopesFor(String code) {
+        if (code.length() == 2) {
+            return List.of(sidoScope(code), NATIONWIDE);
+        }
+        if (NATIONWIDE.equals(code)) {
+            return List.of(NATIONWIDE);
+        }
+        if (isSidoScope(code)) {
+            return List.of(code, NATIONWIDE);
+        }
+        return List.of(code, sidoScope(sidoOf(code)), NATIONWIDE);
+    }
+
+    /**
+     * 외부 API 의 거주지역 코드 목록을 저장할 형태로 정리합니다. (입력만 보고 판단하므로 같은 입력이면 항상 같은 결과)
+     * - 공백 제거, 5자리 숫자가 아닌 코드와 중복 제거
+     * - 전국 코드가 있거나 유효한 코드가 없으면(거주지역 제한 없음) 전국 코드 하나
+     * - 시도 전체 코드가 있으면 같은 시도의 시군구 코드는 빼고 시도 전체 코드 하나
+     * @param rawCodes 외부 API 의 zipCd 를 쉼표로 나눈 코드들
+     */
+    public static List<String> normalize(Collection<String> rawCodes) {
+        Map<String, Set<String>> codesBySido = new TreeMap<>();
+        for (String raw : rawCodes) {
+            String code = raw == null ? "" : raw.trim();
+            if (!isValid(code)) {
+                continue;
+            }
+            if (NATIONWIDE.equals(code)) {
+                return List.of(NATIONWIDE);
+            }
+            codesBySido.computeIfAbsent(sidoOf(code), key -> new TreeSet<>()).add(code);
+        }
+        if (codesBySido.isEmpty()) {
+            return List.of(NATIONWIDE);
+        }
+        List<String> normalized = new ArrayList<>();
+        codesBySido.forEach((sido, codes) -> {
+            if (codes.contains(sidoScope(sido))) {
+                normalized.add(sidoScope(sido));
+            } else {
+                normalized.addAll(codes);
+            }
+        });
+        return normalized;
+    }
+
+    /**
+     * 시도 안의 모든 코드(시도 전체 코드 포함)를 덮는 범위의 끝 값 (시작 값은 sidoScope)
+     */
+    public static String sidoRangeEnd(String sido) {
+        return sido + "999";
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.youthy.chungheon;
+
+import com.example.youthy.YouthPolicy;
+import com.example.youthy.YouthPolicyRepository;
+import com.example.youthy.config.PersistenceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 saveAll 경로와 PolicyBulkWriter 의 쓰기 처리량(rows/sec)을 H2 에서 비교합니다.
+ * 처리량 수치는 로그로 남기고, 검증은 결과 건수만 합니다. (실행 환경에 따라 수치가 흔들리기 때문)
+ * 오래 걸리므로 기본 test 태스크에서는 빠지고 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({PersistenceConfig.class, PolicyBulkWriter.class, PolicySyncMetrics.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 청크 커밋을 그대로 측정하기 위해 테스트 트랜잭션을 쓰지 않음
+class PolicyBulkWriterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicyBulkWriterBenchmarkTest.class);
+
+    private static final int ROWS = 2_000;
+    private static final int WARM_UP_ROWS = 200;
+    private static final String[] ZIP_CODES = {"11110", "11140", "11170", "26110", "41110"};
+
+    @Autowired
+    private PolicyBulkWriter bulkWriter;
+
+    @Autowired
+    private YouthPolicyRepository youthPolicyRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        bulkWriter.delete(youthPolicyRepository.findAllPolicyNos());
+    }
+
+    @Test
+    void bulkWriterWritesMoreRowsPerSecondThanSaveAll() {
+        // JIT 워밍업 후 측정합니다.
+        saveAllInOneTransaction(policies("warm-legacy-", WARM_UP_ROWS, "v1"));
+        bulkWriter.write(policies("warm-bulk-", WARM_UP_ROWS, "v1"), List.of());
+
+        // before: 하나의 트랜잭션에서 saveAll (정책마다 SELECT 후 merge)
+        long legacyMillis = saveAllInOneTransaction(policies("legacy-", ROWS, "v1"));
+
+        // after: 청크 커밋 + JDBC 배치
+        PolicyBulkWriter.WriteResult inserted = bulkWriter.write(policies("bulk-", ROWS, "v1"), List.of());
+        PolicyBulkWriter.WriteResult updated = bulkWriter.write(policies("bulk-", ROWS, "v2"), List.of());
+
+        log.info("[PolicyBulkWriter benchmark] saveAll insert: {} rows/sec, bulk insert: {} rows/sec, bulk update: {} rows/sec",
+                String.format("%.0f", ROWS * 1000.0 / Math.max(1, legacyMillis)),
+                String.format("%.0f", inserted.rowsPerSecond()), String.format("%.0f", updated.rowsPerSecond()));
+
+        assertThat(inserted.inserted()).isEqualTo(ROWS);
+        assertThat(updated.updated()).isEqualTo(ROWS);
+        assertThat(youthPolicyRepository.count()).isEqualTo(2L * (ROWS + WARM_UP_ROWS));
+        assertThat(youthPolicyRepository.findById("bulk-0")).get()
+                .extracting(YouthPolicy::getPolicyName)
+                .isEqualTo("청년 정책 0 v2");
+    }
+
+    private long saveAllInOneTransaction(List<YouthPolicy> policies) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> youthPolicyRepository.saveAll(policies));
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static List<YouthPolicy> policies(String prefix, int count, String version) {
+        List<YouthPolicy> policies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            YouthPolicy policy = YouthPolicy.builder()
+                    .policyNo(prefix + i)
+                    .policyName("청년 정책 " + i + " " + version)
+                    .policySummary("정책 설명 " + i)
+                    .policyField("취업")
+                    .supportContent("지원 내용 ".repeat(50))
+                    .applicationPeriod("20250101 ~ 20991231")
+                    .contentHash(prefix + i + version)
+                    .build();
+            for (String zipCode : ZIP_CODES) {
+                policy.addResidence(zipCode);
+            }
+            policies.add(policy);
+        }
+        return policies;
+    }
+}
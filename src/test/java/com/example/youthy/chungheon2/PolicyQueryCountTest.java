@@ -0,0 +1,162 @@
+package com.example.youthy.chungheon2;
+
+import com.example.youthy.YouthPolicy;
+import com.example.youthy.YouthPolicyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 정책 조회 API 별 SQL 실행 횟수를 검사합니다. (N+1 이나 불필요한 쿼리가 다시 생기면 빌드가 실패하도록)
+ * 목록 캐시는 끄고, Hibernate 통계의 prepared statement 수로 셉니다.
+ */
+@SpringBootTest(properties = {
+        "app.cors.allowed-origins=http://localhost:3000",
+        "jwt.secret=query-count-test-secret-0123456789abcdef0123456789",
+        "kakao.client.id=test",
+        "youth-center.api.url=http://localhost:1",
+        "youth-center.api.key=test",
+        "policy.cache.list.enabled=false",
+        // 예약 작업(폐기 목록, 카탈로그 버전, 조회수 반영)의 쿼리가 측정에 섞이지 않도록 주기를 늘립니다.
+        "auth.revocation.refresh-ms=3600000",
+        "policy.catalog.version-poll-ms=3600000",
+        "policy.views.flush-ms=3600000",
+        "policy.views.reload-ms=3600000",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@AutoConfigureMockMvc
+class PolicyQueryCountTest {
+
+    private static final int POLICIES = 30;
+    private static final String[] ZIP_CODES = {"11110", "11000", "26110", "00000"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private YouthPolicyRepository youthPolicyRepository;
+
+    @Autowired
+    private PolicySearchIndex searchIndex;
+
+    @Autowired
+    private PolicyEligibilityIndex eligibilityIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<YouthPolicy> policies = new ArrayList<>();
+        for (int i = 0; i < POLICIES; i++) {
+            LocalDate endDate = i % 4 == 0 ? null : LocalDate.now().plusDays(i);
+            YouthPolicy policy = YouthPolicy.builder()
+                    .policyNo(String.format("R%03d", i))
+                    .policyName("청년 월세 지원 " + i)
+                    .policySummary("정책 요약 " + i)
+                    .policyField(i % 2 == 0 ? "주거" : "일자리")
+                    .supportContent("지원 내용 " + i)
+                    .applicationEndDate(endDate)
+                    .alwaysOpen(endDate == null)
+                    .contentHash("hash-" + i)
+                    .build();
+            policy.addResidence(ZIP_CODES[i % ZIP_CODES.length]);
+            policy.addResidence("41" + String.format("%03d", i));
+            policies.add(policy);
+        }
+        youthPolicyRepository.saveAll(policies);
+        searchIndex.refresh();
+        eligibilityIndex.refresh();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        youthPolicyRepository.deleteAll();
+    }
+
+    @Test
+    void offsetListsRunOneSelectAndOneCount() throws Exception {
+        assertStatements(2, get("/api/v1/policies").param("size", "12"));
+        assertStatements(2, get("/api/v1/policies").param("category", "주거").param("size", "5"));
+        assertStatements(2, get("/api/v1/policies").param("openOnly", "true").param("size", "5"));
+        assertStatements(2, get("/api/v1/policies/closing-soon").param("days", "30").param("size", "5"));
+        assertStatements(2, get("/api/v1/policies/region/11110").param("size", "5"));
+        assertStatements(2, get("/api/v1/policies/region/11").param("size", "5"));
+    }
+
+    @Test
+    void cursorModeNeverCounts() throws Exception {
+        assertStatements(2, get("/api/v1/policies").param("mode", "cursor").param("sort", "deadline").param("size", "12"));
+        assertStatements(1, get("/api/v1/policies").param("mode", "cursor").param("sort", "name").param("size", "12"));
+    }
+
+    @Test
+    void cursorModeRejectsPopularitySort() throws Exception {
+        // 조회수는 계속 바뀌므로 커서 정렬 키로 쓰지 않습니다. (인기순은 /feed/popular)
+        mockMvc.perform(get("/api/v1/policies").param("mode", "cursor").param("sort", "popularity"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void detailLoadsResidencesInTheSameQuery() throws Exception {
+        assertStatements(1, get("/api/v1/policies/R001"));
+    }
+
+    @Test
+    void missingPolicyDetailIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/policies/NO-SUCH-POLICY")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void searchAndEligibilityDoNotTouchTheDatabase() throws Exception {
+        assertStatements(0, get("/api/v1/policies/search").param("q", "월세"));
+        assertStatements(0, get("/api/v1/policies/eligible").param("age", "25").param("zipCode", "11110"));
+    }
+
+    @Test
+    void residencesOfManyPoliciesLoadInBatches() {
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<YouthPolicy> policies = youthPolicyRepository.findAll();
+            int residences = policies.stream().mapToInt(policy -> policy.getResidences().size()).sum();
+            assertThat(residences).isEqualTo(POLICIES * 2);
+        });
+        assertThat(statistics.getPrepareStatementCount())
+                .as("policies + one batched residence query")
+                .isLessThanOrEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isLessThanOrEqualTo((POLICIES + 99) / 100);
+    }
+
+    private void assertStatements(int max, RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL statements for %s", request)
+                .isLessThanOrEqualTo(max);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.youthy.chungheon2;
+
+import com.example.youthy.YouthPolicy;
+import com.example.youthy.YouthPolicyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 카운터의 반영(flush), 되돌리기(give-back), 기준값 다시 읽기(reload)를 검사합니다.
+ * 예약 작업이 끼어들지 않도록 주기를 늘리고 메서드를 직접 호출합니다.
+ */
+@SpringBootTest(properties = {
+        "app.cors.allowed-origins=http://localhost:3000",
+        "jwt.secret=view-counter-test-secret-0123456789abcdef0123456789",
+        "kakao.client.id=test",
+        "youth-center.api.url=http://localhost:1",
+        "youth-center.api.key=test",
+        "auth.revocation.refresh-ms=3600000",
+        "policy.catalog.version-poll-ms=3600000",
+        "policy.views.flush-ms=3600000",
+        "policy.views.reload-ms=3600000",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class PolicyViewCounterTest {
+
+    @Autowired
+    private PolicyViewCounter viewCounter;
+
+    @Autowired
+    private YouthPolicyRepository youthPolicyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        youthPolicyRepository.saveAll(List.of(policy("V001"), policy("V002")));
+        viewCounter.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        viewCounter.flush();
+        youthPolicyRepository.deleteAll();
+        viewCounter.reload();
+    }
+
+    @Test
+    void flushWritesDeltasWithoutChangingVisibleCount() {
+        for (int i = 0; i < 3; i++) {
+            viewCounter.record("V001");
+        }
+        viewCounter.record("V002");
+        assertThat(viewCounter.viewCount("V001")).isEqualTo(3);
+
+        viewCounter.flush();
+
+        assertThat(storedViewCount("V001")).isEqualTo(3);
+        assertThat(storedViewCount("V002")).isEqualTo(1);
+        assertThat(viewCounter.viewCount("V001")).isEqualTo(3);
+        assertThat(viewCounter.pendingViews()).isZero();
+        assertThat(viewCounter.mostViewed(2)).containsExactly("V001", "V002");
+    }
+
+    @Test
+    void flushDoesNotReadTheWholeTable() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        viewCounter.flush(); // 쌓인 조회 없음
+        viewCounter.record("V001");
+        viewCounter.flush(); // JDBC 배치 UPDATE 만 보냄
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(storedViewCount("V001")).isEqualTo(1);
+    }
+
+    @Test
+    void viewsOfMissingPolicyAreGivenBackThenDroppedOnReload() {
+        viewCounter.record("GONE");
+        viewCounter.record("GONE");
+
+        viewCounter.flush();
+
+        assertThat(viewCounter.pendingViews()).isEqualTo(2);
+        assertThat(viewCounter.viewCount("GONE")).isEqualTo(2);
+
+        viewCounter.reload();
+
+        assertThat(viewCounter.pendingViews()).isZero();
+        assertThat(viewCounter.viewCount("GONE")).isZero();
+    }
+
+    @Test
+    void reloadPicksUpViewsFlushedByOtherServers() {
+        viewCounter.record("V002");
+        viewCounter.flush();
+        jdbcTemplate.update("UPDATE youth_policy SET view_count = view_count + 5 WHERE policy_no = ?", "V002");
+
+        assertThat(viewCounter.viewCount("V002")).isEqualTo(1);
+
+        viewCounter.reload();
+
+        assertThat(viewCounter.viewCount("V002")).isEqualTo(6);
+    }
+
+    private long storedViewCount(String policyNo) {
+        Long count = jdbcTemplate.queryForObject("SELECT view_count FROM youth_policy WHERE policy_no = ?", Long.class, policyNo);
+        return count != null ? count : 0L;
+    }
+
+    private static YouthPolicy policy(String policyNo) {
+        return YouthPolicy.builder()
+                .policyNo(policyNo)
+                .policyName("조회수 정책 " + policyNo)
+                .contentHash("hash-" + policyNo)
+                .build();
+    }
+}
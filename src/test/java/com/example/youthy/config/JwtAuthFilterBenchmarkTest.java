@@ -0,0 +1,182 @@
+package com.example.youthy.config;
+
+import com.example.youthy.domain.Member;
+import com.example.youthy.repository.MemberRepository;
+import com.example.youthy.service.MemberSnapshotCache;
+import com.example.youthy.service.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtAuthFilter 의 요청당 인증 비용을 이전 방식(요청마다 서명 키/파서 생성 + 회원 조회)과 비교합니다. (stateless 모드 포함)
+ * 회원 저장소는 Mockito 로 대신하므로 DB 왕복 시간은 빠져 있고, 대신 저장소 호출 횟수를 검증합니다.
+ * 수치(ns/request)는 로그로 남깁니다. (실행 환경에 따라 수치가 흔들리기 때문)
+ * 측정 테스트는 @Tag("benchmark") 로 기본 test 태스크에서 빠지고 ./gradlew benchmark 로 실행합니다.
+ */
+class JwtAuthFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthFilterBenchmarkTest.class);
+
+    private static final String SECRET = "jwt-auth-filter-benchmark-secret-0123456789abcdef";
+    private static final int REQUESTS = 20_000;
+    private static final int WARM_UP = 2_000;
+
+    private MemberRepository memberRepository;
+    private TokenRevocationList revocations;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.of(Member.builder()
+                        .id(invocation.getArgument(0)).kakaoId(1234L).email("a@b.c").username("youthy").build()));
+        revocations = new TokenRevocationList(memberRepository, 3600);
+        token = Jwts.builder()
+                .claim("memberId", 7L)
+                .claim("kakaoId", 1234L)
+                .claim("username", "youthy")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void cachedFilterSkipsKeyDerivationAndMemberLookup() throws Exception {
+        MemberSnapshotCache memberCache = new MemberSnapshotCache(memberRepository, new SimpleMeterRegistry(), 1000, 60);
+        JwtAuthFilter filter = new JwtAuthFilter(SECRET, memberCache, revocations, false);
+
+        for (int i = 0; i < WARM_UP; i++) {
+            legacyAuthenticate();
+            authenticate(filter);
+        }
+
+        // before: 요청마다 키/파서를 새로 만들고 회원을 조회
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            legacyAuthenticate();
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        // after: 파서 재사용 + 회원 스냅샷 캐시
+        long cachedStart = System.nanoTime();
+        Member last = null;
+        for (int i = 0; i < REQUESTS; i++) {
+            last = authenticate(filter);
+        }
+        long cachedNanos = System.nanoTime() - cachedStart;
+
+        log.info("[JwtAuthFilter benchmark] before: {} ns/request, after: {} ns/request",
+                legacyNanos / REQUESTS, cachedNanos / REQUESTS);
+
+        assertThat(last).isNotNull();
+        assertThat(last.getId()).isEqualTo(7L);
+        assertThat(last.getUsername()).isEqualTo("youthy");
+        // 이전 방식은 요청마다 조회하고, 필터는 첫 요청에서 한 번만 조회합니다.
+        verify(memberRepository, times(WARM_UP + REQUESTS + 1)).findById(7L);
+    }
+
+    @Test
+    void invalidatedMemberIsReloaded() throws Exception {
+        MemberSnapshotCache memberCache = new MemberSnapshotCache(memberRepository, new SimpleMeterRegistry(), 1000, 60);
+        JwtAuthFilter filter = new JwtAuthFilter(SECRET, memberCache, revocations, false);
+
+        Member first = authenticate(filter);
+        first.setUsername("changed-in-request"); // 요청 안에서 바꿔도 캐시에는 영향 없음
+        assertThat(authenticate(filter).getUsername()).isEqualTo("youthy");
+        verify(memberRepository, times(1)).findById(7L);
+
+        memberCache.invalidate(7L);
+        authenticate(filter);
+        verify(memberRepository, times(2)).findById(7L);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void statelessFilterCost() throws Exception {
+        MemberSnapshotCache memberCache = new MemberSnapshotCache(memberRepository, new SimpleMeterRegistry(), 1000, 60);
+        JwtAuthFilter filter = new JwtAuthFilter(SECRET, memberCache, revocations, true);
+
+        for (int i = 0; i < WARM_UP; i++) {
+            authenticate(filter);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            authenticate(filter);
+        }
+        log.info("[JwtAuthFilter benchmark] stateless: {} ns/request", (System.nanoTime() - start) / REQUESTS);
+
+        verify(memberRepository, times(0)).findById(anyLong());
+    }
+
+    @Test
+    void statelessModeNeverTouchesTheRepositoryAndHonoursRevocation() throws Exception {
+        MemberSnapshotCache memberCache = new MemberSnapshotCache(memberRepository, new SimpleMeterRegistry(), 1000, 60);
+        JwtAuthFilter filter = new JwtAuthFilter(SECRET, memberCache, revocations, true);
+
+        authenticate(filter);
+        Member last = authenticate(filter);
+
+        assertThat(last.getId()).isEqualTo(7L);
+        assertThat(last.getKakaoId()).isEqualTo(1234L);
+        assertThat(last.getUsername()).isEqualTo("youthy");
+        verify(memberRepository, times(0)).findById(anyLong());
+
+        // 폐기 시각 이전에 발급된 토큰은 거부됩니다.
+        revocations.revoke(7L, Instant.now().plusSeconds(1));
+        assertThat(perform(filter).getStatus()).isEqualTo(401);
+    }
+
+    private Member authenticate(JwtAuthFilter filter) throws Exception {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        assertThat(response.getStatus()).isEqualTo(200);
+        return (Member) request.getAttribute("authMember");
+    }
+
+    private MockHttpServletResponse perform(JwtAuthFilter filter) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private Member legacyAuthenticate() {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return memberRepository.findById(claims.get("memberId", Long.class)).orElseThrow();
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.youthy.controller;
+
+import com.example.youthy.domain.Member;
+import com.example.youthy.dto.Tokens;
+import com.example.youthy.repository.MemberRepository;
+import com.example.youthy.repository.RefreshTokenRepository;
+import com.example.youthy.service.TokenService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 API(/api/me/**)는 검증된 access 토큰으로만 회원을 정하는지 검사합니다.
+ * 토큰이 없거나 위조된 요청, 쿼리 파라미터(?id=)로 회원을 흉내 내는 요청은 아무 것도 바꾸지 못하고 401 이어야 합니다.
+ */
+@SpringBootTest(properties = {
+        "app.cors.allowed-origins=http://localhost:3000",
+        "jwt.secret=member-sessions-auth-test-secret-0123456789abcdef",
+        "kakao.client.id=test",
+        "youth-center.api.url=http://localhost:1",
+        "youth-center.api.key=test"
+})
+@AutoConfigureMockMvc
+class MemberSessionsAuthTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshRepo;
+
+    private Member member;
+    private Tokens tokens;
+
+    @BeforeEach
+    void setUp() {
+        refreshRepo.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        member = memberRepository.save(Member.builder().kakaoId(1234L).email("a@b.c").username("youthy").build());
+        tokens = tokenService.rotateAndIssue(member, null, "phone", "127.0.0.1");
+    }
+
+    @Test
+    void requestsWithoutTokenAreRejected() throws Exception {
+        mockMvc.perform(get("/api/me")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/me/sessions")).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/me/sessions")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void forgedMemberIdIsIgnored() throws Exception {
+        String id = String.valueOf(member.getId());
+        mockMvc.perform(get("/api/me").param("id", id)).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/me/sessions").param("id", id)).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/me/sessions/" + refreshRepo.findAll().get(0).getId()).param("id", id))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/me/sessions").param("id", id)).andExpect(status().isUnauthorized());
+
+        // 아무 것도 폐기되지 않았습니다.
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getTokensRevokedAt()).isNull();
+        assertThat(tokenService.findActiveSessions(member.getId())).hasSize(1);
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() throws Exception {
+        String forged = Jwts.builder()
+                .claim("memberId", member.getId())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor("some-other-secret-0123456789abcdef0123456789".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        mockMvc.perform(delete("/api/me/sessions").header("Authorization", "Bearer " + forged))
+                .andExpect(status().isUnauthorized());
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getTokensRevokedAt()).isNull();
+    }
+
+    @Test
+    void unauthorizedResponsesCarryCorsHeaders() throws Exception {
+        mockMvc.perform(get("/api/me/sessions").header("Origin", "http://localhost:3000"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("Access-Control-Allow-Origin", "http://localhost:3000"));
+    }
+
+    @Test
+    void validTokenManagesOwnSessions() throws Exception {
+        String bearer = "Bearer " + tokens.getAccess();
+        mockMvc.perform(get("/api/me/sessions").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].userAgent").value("phone"));
+        mockMvc.perform(delete("/api/me/sessions").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.revoked").value(1));
+
+        // 전체 로그아웃 후에는 같은 access 토큰도 거부됩니다.
+        mockMvc.perform(get("/api/me/sessions").header("Authorization", bearer)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void revokingInactiveSessionIsNotFound() throws Exception {
+        String bearer = "Bearer " + tokens.getAccess();
+        Long rotatedId = refreshRepo.findAll().get(0).getId();
+        tokenService.refresh(tokens.getRefresh(), "phone", "127.0.0.1");
+
+        // 재발급으로 회전된 토큰은 활성 세션이 아니므로 폐기하지 않고 404
+        mockMvc.perform(delete("/api/me/sessions/" + rotatedId).header("Authorization", bearer))
+                .andExpect(status().isNotFound());
+        assertThat(refreshRepo.findById(rotatedId).orElseThrow().isRevoked()).isFalse();
+
+        Long activeId = tokenService.findActiveSessions(member.getId()).get(0).getId();
+        mockMvc.perform(delete("/api/me/sessions/" + activeId).header("Authorization", bearer))
+                .andExpect(status().isNoContent());
+        assertThat(tokenService.findActiveSessions(member.getId())).isEmpty();
+    }
+
+    @Test
+    void reloginRightAfterLogoutAllIsAccepted() throws Exception {
+        tokenService.revokeAllFor(member.getId());
+        // 같은 초 안에 다시 로그인해도 새 토큰은 폐기 시각 이후(밀리초 기준)에 발급된 것이므로 통과합니다.
+        Tokens relogin = tokenService.rotateAndIssue(member, null, "phone", "127.0.0.1");
+        mockMvc.perform(get("/api/me").header("Authorization", "Bearer " + relogin.getAccess()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/me").header("Authorization", "Bearer " + tokens.getAccess()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void policyApisStayPublic() throws Exception {
+        mockMvc.perform(get("/api/v1/policies/feed/popular")).andExpect(status().isOk());
+    }
+}
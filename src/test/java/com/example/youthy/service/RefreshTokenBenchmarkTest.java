@@ -0,0 +1,158 @@
+package com.example.youthy.service;
+
+import com.example.youthy.domain.Member;
+import com.example.youthy.domain.RefreshToken;
+import com.example.youthy.dto.Tokens;
+import com.example.youthy.repository.MemberRepository;
+import com.example.youthy.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * refresh 토큰 재발급 처리량(refreshes/sec)을 이전 방식과 H2 에서 비교합니다.
+ * - before: 토큰 해시 인덱스 없음(테이블 전체 검사) + String.format 해시 + 엔티티 조회/저장으로 회전
+ * - after: 해시 유니크 인덱스 + 조건부 UPDATE 회전 (TokenService.refresh)
+ * 실제로는 토큰마다 access 토큰이 만료될 즈음(약 1시간 뒤) 한 번만 재발급하므로, after 는 미리 발급해 둔 서로 다른 토큰을 한 번씩 씁니다.
+ * 다른 회원들의 토큰을 미리 쌓아 두고 측정하며, 처리량 수치는 로그로 남깁니다. (실행 환경에 따라 수치가 흔들리기 때문)
+ * 측정 테스트는 @Tag("benchmark") 로 기본 test 태스크에서 빠지고 ./gradlew benchmark 로 실행합니다.
+ */
+@DataJpaTest(properties = "jwt.secret=refresh-token-benchmark-secret-0123456789abcdef")
+@Import({TokenService.class, MemberSnapshotCache.class, TokenRevocationList.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 요청마다 커밋되는 실제 흐름을 측정하기 위해 테스트 트랜잭션을 쓰지 않음
+class RefreshTokenBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenBenchmarkTest.class);
+
+    private static final int BACKGROUND_TOKENS = 10_000;
+    private static final int REFRESHES = 300;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        refreshRepo.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        member = memberRepository.save(Member.builder().kakaoId(1234L).email("a@b.c").username("youthy").build());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void indexedCachedRefreshOutperformsTableScan() {
+        insertBackgroundTokens();
+
+        // before: 해시 인덱스 없이 (Hibernate 는 유니크 @Index 를 유니크 제약으로 만듦)
+        jdbcTemplate.execute("ALTER TABLE refresh_token DROP CONSTRAINT idx_ref_token_hash");
+        String legacyToken = tokenService.mintRefresh(member, "ua", "127.0.0.1");
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < REFRESHES; i++) {
+            legacyToken = legacyRefresh(legacyToken);
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+        jdbcTemplate.execute("ALTER TABLE refresh_token ADD CONSTRAINT idx_ref_token_hash UNIQUE (token_hash)");
+
+        // after: 세션마다 발급해 둔 토큰을 한 번씩 재발급 (방금 발급한 토큰을 바로 쓰지 않음)
+        List<String> issued = IntStream.range(0, REFRESHES)
+                .mapToObj(i -> tokenService.mintRefresh(member, "ua", "127.0.0.1"))
+                .toList();
+        Tokens tokens = null;
+        long start = System.nanoTime();
+        for (String refresh : issued) {
+            tokens = tokenService.refresh(refresh, "ua", "127.0.0.1");
+        }
+        long nanos = System.nanoTime() - start;
+        String first = issued.get(0);
+
+        log.info("[RefreshToken benchmark] before: {} refreshes/sec, after: {} refreshes/sec ({} stored tokens)",
+                String.format("%.0f", REFRESHES * 1e9 / legacyNanos), String.format("%.0f", REFRESHES * 1e9 / nanos), refreshRepo.count());
+
+        assertThat(tokens.getAccess()).isNotBlank();
+        // 회전된 토큰은 다시 쓸 수 없습니다.
+        assertThatThrownBy(() -> tokenService.refresh(first, "ua", "127.0.0.1")).isInstanceOf(IllegalStateException.class);
+        assertThat(refreshRepo.count()).isEqualTo(BACKGROUND_TOKENS + 1L + 3L * REFRESHES);
+    }
+
+    @Test
+    void revokedTokenIsRejected() {
+        String refresh = tokenService.mintRefresh(member, "ua", "127.0.0.1");
+        assertThat(tokenService.validateRefreshToken(refresh).getMemberId()).isEqualTo(member.getId());
+
+        tokenService.revokeOneByRefresh(refresh);
+        assertThatThrownBy(() -> tokenService.refresh(refresh, "ua", "127.0.0.1")).isInstanceOf(IllegalStateException.class);
+        List<RefreshToken> stored = refreshRepo.findAllByMemberId(member.getId());
+        assertThat(stored).singleElement().extracting(RefreshToken::isRevoked).isEqualTo(true);
+    }
+
+    /**
+     * 다른 회원들의 유효한 토큰을 미리 쌓아 둡니다. (인덱스가 없으면 재발급마다 이만큼을 훑게 됨)
+     */
+    private void insertBackgroundTokens() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        jdbcTemplate.batchUpdate("INSERT INTO refresh_token (member_id, jti, token_hash, expires_at, revoked, rotated) VALUES (?, ?, ?, ?, false, false)",
+                IntStream.range(0, BACKGROUND_TOKENS)
+                        .mapToObj(i -> new Object[]{1_000_000L + i, UUID.randomUUID().toString(),
+                                legacySha256("rt_background_" + i), java.sql.Timestamp.from(expiresAt)})
+                        .toList());
+    }
+
+    /**
+     * 이전 TokenService.refresh 가 하던 일: 해시로 찾아 검증 → 엔티티를 회전 표시 후 저장 → 새 토큰 저장
+     */
+    private String legacyRefresh(String provided) {
+        RefreshToken rt = refreshRepo.findByTokenHash(legacySha256(provided)).orElseThrow();
+        assertThat(rt.isRotated() || rt.isRevoked()).isFalse();
+        rt.setRotated(true);
+        refreshRepo.save(rt);
+        String next = "rt_" + UUID.randomUUID();
+        refreshRepo.save(RefreshToken.builder()
+                .memberId(rt.getMemberId())
+                .jti(UUID.randomUUID().toString())
+                .tokenHash(legacySha256(next))
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build());
+        return next;
+    }
+
+    private static String legacySha256(String s) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] dig = md.digest(s.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(dig.length * 2);
+            for (byte b : dig) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}